@@ -16,19 +16,36 @@
 
 package com.github.taucher2003.atlassian_statuspage_api;
 
+import com.github.taucher2003.atlassian_statuspage_api.entities.EntityCache;
 import com.github.taucher2003.atlassian_statuspage_api.entities.Page;
+import com.github.taucher2003.atlassian_statuspage_api.requests.HttpTransport;
+import com.github.taucher2003.atlassian_statuspage_api.requests.JsonArrayIterator;
+import com.github.taucher2003.atlassian_statuspage_api.requests.JsonReader;
+import com.github.taucher2003.atlassian_statuspage_api.requests.OkHttpTransport;
+import com.github.taucher2003.atlassian_statuspage_api.requests.OverflowPolicy;
 import com.github.taucher2003.atlassian_statuspage_api.requests.Request;
 import com.github.taucher2003.atlassian_statuspage_api.requests.Requester;
 import com.github.taucher2003.atlassian_statuspage_api.requests.Route;
+import com.github.taucher2003.atlassian_statuspage_api.requests.TokenBucketRateLimiter;
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.OkHttpClient;
 import com.squareup.okhttp.Response;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
- * Root class of the Library. Use the constructor {@link #StatuspageAPI(String)} to create an instance.
+ * Root class of the Library. Use the constructor {@link #StatuspageAPI(String)} or the {@link #builder(String) builder}
+ * to create an instance.
  * From this class you can get a {@link Page Page} and
  * perform actions on these Pages.
  *
@@ -37,7 +54,9 @@ import java.util.List;
 public class StatuspageAPI {
 
 	private final String apiKey;
+	private final String baseUrl;
 	private final Requester requester;
+	private final EntityCache cache = new EntityCache();
 
 	/**
 	 * Constructor for the API.
@@ -46,8 +65,43 @@ public class StatuspageAPI {
 	 * @since 1.0.0
 	 */
 	public StatuspageAPI(String apiKey) {
+		this(apiKey, new OkHttpTransport());
+	}
+
+	/**
+	 * Constructor for the API, sending all requests with the given {@link HttpTransport}.
+	 * <br>Use a {@link com.github.taucher2003.atlassian_statuspage_api.requests.JdkHttpTransport JdkHttpTransport}
+	 * for HTTP/2, or an {@link OkHttpTransport} to share your own client and its connection pool.
+	 *
+	 * @param apiKey your api key for your organization
+	 * @param transport the transport used for the requests
+	 * @since 1.1.0
+	 */
+	public StatuspageAPI(String apiKey, HttpTransport transport) {
+		this(apiKey, Route.API_BASE_URL, transport);
+	}
+
+	private StatuspageAPI(String apiKey, String baseUrl, HttpTransport transport) {
 		this.apiKey = apiKey;
-		this.requester = new Requester(this);
+		this.baseUrl = baseUrl;
+		this.requester = new Requester(this, transport);
+	}
+
+	/**
+	 * Creates a {@link Builder} to configure timeouts, the connection pool, threads, rate limits and the base url
+	 * <pre>{@code
+	 * StatuspageAPI api = StatuspageAPI.builder("api-token")
+	 * 	.setConnectTimeout(2, TimeUnit.SECONDS)
+	 * 	.setReadTimeout(5, TimeUnit.SECONDS)
+	 * 	.build();
+	 * }</pre>
+	 *
+	 * @param apiKey your api key for your organization
+	 * @return the builder
+	 * @since 1.1.0
+	 */
+	public static Builder builder(String apiKey) {
+		return new Builder(apiKey);
 	}
 
 	/**
@@ -57,24 +111,78 @@ public class StatuspageAPI {
 	 * @since 1.0.0
 	 */
 	public List<Page> getPages() {
-		List<Page> result = new ArrayList<>();
 		Route.CompiledRoute route = Route.Pages.GET_PAGE_LIST.compile();
 		Request request = new Request(route, Request.EMPTY_BODY);
 		try {
 			Response response = getRequester().queue(request);
-			JSONArray jsonList = new JSONArray(response.body().string());
-			for (Object jsonObj : jsonList) {
-				if (jsonObj instanceof JSONObject) {
-					JSONObject json = (JSONObject) jsonObj;
-					Page page = Page.fromJson(this, json);
-					result.add(page);
-				} else {
-					System.err.println(jsonObj + " was not an JSONObject");
-				}
+			return readPages(response);
+		}catch(Exception e) {
+			e.printStackTrace();
+		}
+		return new ArrayList<>();
+	}
+	
+	/**
+	 * Get a list of all {@link Page Pages} you have access to without blocking the calling thread
+	 *
+	 * @return a future that completes with a list of the Page instances
+	 * @since 1.1.0
+	 * @see #getPages()
+	 */
+	public CompletableFuture<List<Page>> getPagesAsync() {
+		Route.CompiledRoute route = Route.Pages.GET_PAGE_LIST.compile();
+		Request request = new Request(route, Request.EMPTY_BODY);
+		return getRequester().submit(request).thenApply(response -> {
+			try {
+				return readPages(response);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	/**
+	 * Streams all {@link Page Pages} you have access to. The pages are decoded one at a time
+	 * while the response is received, so the memory usage stays constant.
+	 * <br>The stream holds the connection until it has been consumed or closed, so use it in a try-with-resources block.
+	 *
+	 * @return a stream of the Page instances, empty if the request failed
+	 * @since 1.1.0
+	 * @see #forEachPage(Consumer)
+	 */
+	public Stream<Page> streamPages() {
+		Route.CompiledRoute route = Route.Pages.GET_PAGE_LIST.compile();
+		Request request = new Request(route, Request.EMPTY_BODY).setStreaming(true);
+		try {
+			Response response = getRequester().queue(request);
+			if(response != null) {
+				return new JsonArrayIterator<>(response, reader -> Page.read(this, reader)).stream();
 			}
 		}catch(Exception e) {
 			e.printStackTrace();
 		}
+		return Stream.empty();
+	}
+	
+	/**
+	 * Passes every {@link Page Page} you have access to to the given callback as soon as it has been decoded
+	 *
+	 * @param action the callback
+	 * @since 1.1.0
+	 * @see #streamPages()
+	 */
+	public void forEachPage(Consumer<Page> action) {
+		try(Stream<Page> pages = streamPages()) {
+			pages.forEach(action);
+		}
+	}
+	
+	private List<Page> readPages(Response response) throws IOException {
+		List<Page> result = new ArrayList<>();
+		new JsonArrayIterator<>(response, reader -> Page.read(this, reader)).forEachRemaining(result::add);
+		for(Page page : result) {
+			cache.put(EntityCache.Type.PAGE, page.getId(), page);
+		}
 		return result;
 	}
 	
@@ -90,15 +198,43 @@ public class StatuspageAPI {
 	 * @param pageId the id of the page
 	 * @return the Page instance
 	 * @since 1.0.0
+	 * @see #getCache()
 	 */
 	public Page getPage(String pageId) {
+		return getPage(pageId, false);
+	}
+	
+	/**
+	 * Get a {@link Page Page} with the given id
+	 * @param pageId the id of the page
+	 * @param bypassCache true, to request the page even if it is {@link #getCache() cached}
+	 * @return the Page instance
+	 * @since 1.1.0
+	 */
+	public Page getPage(String pageId, boolean bypassCache) {
+		if(!bypassCache) {
+			Page cached = cache.get(EntityCache.Type.PAGE, pageId);
+			if(cached != null) {
+				return cached;
+			}
+		}
 		Page page = null;
+		EntityCache.Entry<Page> previous = cache.peek(EntityCache.Type.PAGE, pageId);
 		Route.CompiledRoute route = Route.Pages.GET_PAGE.compile(pageId);
 		Request request = new Request(route, Request.EMPTY_BODY);
+		if(previous != null) {
+			request.setConditional(previous.getETag(), previous.getLastModified());
+		}
 		try {
 			Response response = getRequester().queue(request);
-			JSONObject json = new JSONObject(response.body().string());
-			page = Page.fromJson(this, json);
+			if(response.code() == 304 && previous != null) {
+				cache.put(EntityCache.Type.PAGE, pageId, previous.getValue(), previous.getETag(), previous.getLastModified());
+				return previous.getValue();
+			}
+			try(JsonReader reader = new JsonReader(response.body().source())) {
+				page = Page.read(this, reader);
+			}
+			cache.put(EntityCache.Type.PAGE, pageId, page, response.header("ETag"), response.header("Last-Modified"));
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
@@ -114,6 +250,37 @@ public class StatuspageAPI {
 		return apiKey;
 	}
 	
+	/**
+	 * Opens a connection to the api in the background, so the first request does not pay for DNS, TCP and TLS.
+	 * <br>Use {@link Builder#setKeepAliveInterval(long, TimeUnit)} or {@link Requester#setKeepAliveInterval(long, TimeUnit)}
+	 * to keep the connection open during idle periods.
+	 * @return a future that completes once the connection has been established
+	 * @since 1.1.0
+	 * @see Requester#warmUp()
+	 */
+	public CompletableFuture<Void> warmUp() {
+		return requester.warmUp();
+	}
+	
+	/**
+	 * Gets the base url all requests are sent to
+	 * @return the base url, without a trailing slash
+	 * @since 1.1.0
+	 */
+	public String getBaseUrl() {
+		return baseUrl;
+	}
+	
+	/**
+	 * Gets the {@link EntityCache} of the pages and components requested by this instance.
+	 * Use it to configure the time to live of the entities and to read the hit and miss counters
+	 * @return the cache
+	 * @since 1.1.0
+	 */
+	public EntityCache getCache() {
+		return cache;
+	}
+	
 	/**
 	 * Gets the {@link Requester Requester}.
 	 * 
@@ -125,4 +292,245 @@ public class StatuspageAPI {
 	public Requester getRequester() {
 		return requester;
 	}
+
+	/**
+	 * Builder for a {@link StatuspageAPI}. Every setting that is not set keeps its default.
+	 *
+	 * @since 1.1.0
+	 * @see StatuspageAPI#builder(String)
+	 */
+	public static class Builder {
+
+		private final String apiKey;
+		private String baseUrl = Route.API_BASE_URL;
+		private HttpTransport transport;
+		private long connectTimeoutMillis = TimeUnit.SECONDS.toMillis(10);
+		private long readTimeoutMillis = TimeUnit.SECONDS.toMillis(10);
+		private long writeTimeoutMillis = TimeUnit.SECONDS.toMillis(10);
+		private int maxIdleConnections = 5;
+		private long keepAliveMillis = TimeUnit.MINUTES.toMillis(5);
+		private int asyncThreads = Requester.DEFAULT_ASYNC_THREADS;
+		private int asyncQueueCapacity = Requester.DEFAULT_ASYNC_QUEUE_CAPACITY;
+		private int maxConcurrency = Requester.DEFAULT_MAX_CONCURRENCY;
+		private double permitsPerSecond = 1;
+		private int burst = 1;
+		private int queueCapacity = Requester.UNBOUNDED_QUEUE_CAPACITY;
+		private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+		private boolean eagerConnect = false;
+		private int cacheMaxSize = EntityCache.DEFAULT_MAX_SIZE;
+		private final Map<EntityCache.Type, Long> cacheTtlMillis = new EnumMap<>(EntityCache.Type.class);
+		private long keepAliveIntervalMillis = 0;
+
+		private Builder(String apiKey) {
+			this.apiKey = apiKey;
+		}
+
+		/**
+		 * Sets the base url, e.g. to send the requests to a local stand-in for load testing.
+		 * The default is {@value Route#API_BASE_URL}
+		 * @param baseUrl the base url
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setBaseUrl(String baseUrl) {
+			this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+			return this;
+		}
+
+		/**
+		 * Sets the {@link HttpTransport} used for the requests.
+		 * <br>If a transport is set, the timeouts and connection pool settings of this builder are ignored,
+		 * as they only apply to the default {@link OkHttpTransport}.
+		 * @param transport the transport
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setTransport(HttpTransport transport) {
+			this.transport = transport;
+			return this;
+		}
+
+		/**
+		 * Sets the timeout for establishing a connection. The default is 10 seconds
+		 * @param timeout the timeout, {@code 0} for no timeout
+		 * @param unit the unit of the timeout
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setConnectTimeout(long timeout, TimeUnit unit) {
+			this.connectTimeoutMillis = unit.toMillis(timeout);
+			return this;
+		}
+
+		/**
+		 * Sets the timeout for reading from a connection. The default is 10 seconds
+		 * @param timeout the timeout, {@code 0} for no timeout
+		 * @param unit the unit of the timeout
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setReadTimeout(long timeout, TimeUnit unit) {
+			this.readTimeoutMillis = unit.toMillis(timeout);
+			return this;
+		}
+
+		/**
+		 * Sets the timeout for writing to a connection. The default is 10 seconds
+		 * @param timeout the timeout, {@code 0} for no timeout
+		 * @param unit the unit of the timeout
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setWriteTimeout(long timeout, TimeUnit unit) {
+			this.writeTimeoutMillis = unit.toMillis(timeout);
+			return this;
+		}
+
+		/**
+		 * Configures the connection pool. The default keeps up to 5 idle connections for 5 minutes
+		 * @param maxIdleConnections the maximum number of idle connections
+		 * @param keepAlive the time an idle connection is kept open
+		 * @param unit the unit of the keep alive time
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setConnectionPool(int maxIdleConnections, long keepAlive, TimeUnit unit) {
+			this.maxIdleConnections = maxIdleConnections;
+			this.keepAliveMillis = unit.toMillis(keepAlive);
+			return this;
+		}
+
+		/**
+		 * Configures the threads of the {@link Requester}
+		 * @param maxConcurrency the maximum number of requests executed at the same time,
+		 *                       see {@link Requester#setMaxConcurrency(int)}
+		 * @param asyncThreads the number of threads running response handlers and completing futures
+		 * @param asyncQueueCapacity the number of response handlers that may wait for a free thread
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 * @see Requester#createAsyncExecutor(int, int, java.util.concurrent.RejectedExecutionHandler)
+		 */
+		public Builder setDispatcherThreads(int maxConcurrency, int asyncThreads, int asyncQueueCapacity) {
+			this.maxConcurrency = maxConcurrency;
+			this.asyncThreads = asyncThreads;
+			this.asyncQueueCapacity = asyncQueueCapacity;
+			return this;
+		}
+
+		/**
+		 * Configures the rate limit. The default is one request per second without burst
+		 * @param permitsPerSecond the number of requests per second in the long run
+		 * @param burst the number of requests that may be sent at once
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 * @see TokenBucketRateLimiter
+		 */
+		public Builder setRateLimit(double permitsPerSecond, int burst) {
+			this.permitsPerSecond = permitsPerSecond;
+			this.burst = burst;
+			return this;
+		}
+
+		/**
+		 * Limits the number of requests waiting in the queue. The default is an unbounded queue
+		 * @param queueCapacity the maximum number of waiting requests
+		 * @param overflowPolicy the policy applied to new requests, if the queue is full
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 * @see Requester#setQueueCapacity(int, OverflowPolicy)
+		 */
+		public Builder setQueueCapacity(int queueCapacity, OverflowPolicy overflowPolicy) {
+			this.queueCapacity = queueCapacity;
+			this.overflowPolicy = overflowPolicy;
+			return this;
+		}
+
+		/**
+		 * Sets if a connection should be opened while building, see {@link StatuspageAPI#warmUp()}.
+		 * The default is false
+		 * @param eagerConnect true, to open a connection in the background
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setEagerConnect(boolean eagerConnect) {
+			this.eagerConnect = eagerConnect;
+			return this;
+		}
+
+		/**
+		 * Sets the interval of keep alive requests, which keep the pooled connection open between requests.
+		 * The interval should be shorter than the keep alive time of the {@link #setConnectionPool(int, long, TimeUnit) connection pool}.
+		 * The default is {@code 0}, which disables keep alives
+		 * @param interval the interval
+		 * @param unit the unit of the interval
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 * @see Requester#setKeepAliveInterval(long, TimeUnit)
+		 */
+		public Builder setKeepAliveInterval(long interval, TimeUnit unit) {
+			this.keepAliveIntervalMillis = unit.toMillis(interval);
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of entities in the {@link StatuspageAPI#getCache() cache}.
+		 * The default is {@value EntityCache#DEFAULT_MAX_SIZE}
+		 * @param maxSize the maximum number of entities
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setCacheMaxSize(int maxSize) {
+			this.cacheMaxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Sets how long entities of a type are served from the {@link StatuspageAPI#getCache() cache}.
+		 * The default is {@code 0}, which disables the cache for the type
+		 * @param type the type of the entities
+		 * @param ttl the time to live
+		 * @param unit the unit of the time to live
+		 * @return this builder, for chaining
+		 * @since 1.1.0
+		 */
+		public Builder setCacheTtl(EntityCache.Type type, long ttl, TimeUnit unit) {
+			this.cacheTtlMillis.put(type, unit.toMillis(ttl));
+			return this;
+		}
+
+		/**
+		 * Creates the {@link StatuspageAPI} instance
+		 * @return the api instance
+		 * @since 1.1.0
+		 */
+		public StatuspageAPI build() {
+			HttpTransport httpTransport = transport;
+			if(httpTransport == null) {
+				OkHttpClient client = new OkHttpClient();
+				client.setConnectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+				client.setReadTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS);
+				client.setWriteTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+				client.setConnectionPool(new ConnectionPool(maxIdleConnections, keepAliveMillis, TimeUnit.MILLISECONDS));
+				httpTransport = new OkHttpTransport(client);
+			}
+			StatuspageAPI api = new StatuspageAPI(apiKey, baseUrl, httpTransport);
+			Requester requester = api.getRequester();
+			requester.setRateLimiter(new TokenBucketRateLimiter(permitsPerSecond, burst));
+			requester.setMaxConcurrency(maxConcurrency);
+			requester.setAsyncExecutor(Requester.createAsyncExecutor(asyncThreads, asyncQueueCapacity, new ThreadPoolExecutor.CallerRunsPolicy()));
+			if(queueCapacity != Requester.UNBOUNDED_QUEUE_CAPACITY) {
+				requester.setQueueCapacity(queueCapacity, overflowPolicy);
+			}
+			requester.setKeepAliveInterval(keepAliveIntervalMillis, TimeUnit.MILLISECONDS);
+			api.getCache().setMaxSize(cacheMaxSize);
+			cacheTtlMillis.forEach((type, ttl) -> api.getCache().setTtl(type, ttl, TimeUnit.MILLISECONDS));
+			if(eagerConnect) {
+				api.warmUp().exceptionally(t -> {
+					t.printStackTrace();
+					return null;
+				});
+			}
+			return api;
+		}
+	}
 }
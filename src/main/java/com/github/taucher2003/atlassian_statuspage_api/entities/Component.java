@@ -17,12 +17,22 @@
 package com.github.taucher2003.atlassian_statuspage_api.entities;
 
 import com.github.taucher2003.atlassian_statuspage_api.StatuspageAPI;
+import com.github.taucher2003.atlassian_statuspage_api.requests.JsonReader;
+import com.github.taucher2003.atlassian_statuspage_api.requests.JsonWriter;
+import com.github.taucher2003.atlassian_statuspage_api.requests.PatchBody;
 import com.github.taucher2003.atlassian_statuspage_api.requests.Request;
 import com.github.taucher2003.atlassian_statuspage_api.requests.Route;
-import com.squareup.okhttp.RequestBody;
+import okio.ByteString;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * This class wraps a Component item. Components are the individual pieces of
@@ -33,6 +43,15 @@ import java.time.OffsetDateTime;
  */
 public class Component {
 
+	// Field names of the payloads, encoded once
+	private static final ByteString FIELD_COMPONENT = JsonWriter.encodeName("component");
+	private static final ByteString FIELD_DESCRIPTION = JsonWriter.encodeName("description");
+	private static final ByteString FIELD_STATUS = JsonWriter.encodeName("status");
+	private static final ByteString FIELD_NAME = JsonWriter.encodeName("name");
+	private static final ByteString FIELD_ONLY_SHOW_IF_DEGRADED = JsonWriter.encodeName("only_show_if_degraded");
+	private static final ByteString FIELD_GROUP_ID = JsonWriter.encodeName("group_id");
+	private static final ByteString FIELD_SHOWCASE = JsonWriter.encodeName("showcase");
+
 	private final StatuspageAPI api;
 
 	private final String id;
@@ -48,6 +67,8 @@ public class Component {
 	private boolean showcase;
 	private boolean onlyShowIfDegraded;
 	private final String automationEmail;
+	private volatile Page page;
+	private final PendingFields pending = new PendingFields();
 
 	private Component(StatuspageAPI api,
 					  String id, String pageId, String groupId, OffsetDateTime createdAt, OffsetDateTime updatedAt, boolean group,
@@ -94,6 +115,84 @@ public class Component {
 				json.getInt("position"), status, json.getBoolean("showcase"), json.getBoolean("only_show_if_degraded"), automation_email);
 	}
 	
+	/**
+	 * Reads a {@link Component} instance directly from the response. This method <b>should not be used</b> in your code.
+	 * <br>The result is the same as of {@link #fromJson(StatuspageAPI, JSONObject)}, but every field is read once
+	 * without building a JSONObject first.
+	 * @param api the api instance, that requested this resource
+	 * @param reader the reader, positioned in front of the component object
+	 * @return a Component instance
+	 * @throws IOException if the response could not be read
+	 * @since 1.1.0
+	 */
+	public static Component read(StatuspageAPI api, JsonReader reader) throws IOException {
+		String id = null;
+		String pageId = null;
+		String groupId = null;
+		OffsetDateTime createdAt = null;
+		OffsetDateTime updatedAt = null;
+		boolean group = false;
+		String name = null;
+		String description = null;
+		int position = 0;
+		Status status = null;
+		boolean showcase = false;
+		boolean onlyShowIfDegraded = false;
+		String automationEmail = null;
+		reader.beginObject();
+		while(reader.hasNext()) {
+			switch(reader.nextName()) {
+				case "id":
+					id = reader.nextStringOrNull();
+					break;
+				case "page_id":
+					pageId = reader.nextStringOrNull();
+					break;
+				case "group_id":
+					groupId = reader.nextStringOrNull();
+					break;
+				case "created_at":
+					createdAt = reader.nextDateTimeOrNull();
+					break;
+				case "updated_at":
+					updatedAt = reader.nextDateTimeOrNull();
+					break;
+				case "group":
+					group = reader.nextBoolean(false);
+					break;
+				case "name":
+					name = reader.nextStringOrNull();
+					break;
+				case "description":
+					description = reader.nextStringOrNull();
+					break;
+				case "position":
+					Integer positionValue = reader.nextIntOrNull();
+					position = positionValue == null ? 0 : positionValue;
+					break;
+				case "status":
+					String statusValue = reader.nextStringOrNull();
+					status = statusValue == null ? null : Status.valueOf(statusValue.toUpperCase());
+					break;
+				case "showcase":
+					showcase = reader.nextBoolean(false);
+					break;
+				case "only_show_if_degraded":
+					onlyShowIfDegraded = reader.nextBoolean(false);
+					break;
+				case "automation_email":
+					automationEmail = reader.nextStringOrNull();
+					break;
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return new Component(api, id, pageId, groupId, createdAt, 
+				updatedAt, group, name, description, 
+				position, status, showcase, onlyShowIfDegraded, automationEmail);
+	}
+	
 	/**
 	 * Change the description of this component
 	 * @param description the new description
@@ -101,7 +200,7 @@ public class Component {
 	 * @see #set(String, Status, String, boolean, String, boolean)
 	 */
 	public void setDescription(String description) {
-		set(description, status, name, onlyShowIfDegraded, groupId, showcase);
+		logFailure(setField(FIELD_DESCRIPTION, description, () -> this.description, () -> this.description = description));
 	}
 	
 	/**
@@ -112,7 +211,7 @@ public class Component {
 	 * @see #set(String, Status, String, boolean, String, boolean)
 	 */
 	public void setStatus(Status status) {
-		set(description, status, name, onlyShowIfDegraded, groupId, showcase);
+		logFailure(setField(FIELD_STATUS, status, () -> this.status, () -> this.status = status));
 	}
 	
 	/**
@@ -122,7 +221,7 @@ public class Component {
 	 * @see #set(String, Status, String, boolean, String, boolean)
 	 */
 	public void setName(String name) {
-		set(description, status, name, onlyShowIfDegraded, groupId, showcase);
+		logFailure(setField(FIELD_NAME, name, () -> this.name, () -> this.name = name));
 	}
 	
 	/**
@@ -139,7 +238,7 @@ public class Component {
 	 * @see #set(String, Status, String, boolean, String, boolean) 
 	 */
 	public void setOnlyShowIfDegraded(boolean onlyShowIfDegraded) {
-		set(description, status, name, onlyShowIfDegraded, groupId, showcase);
+		logFailure(setField(FIELD_ONLY_SHOW_IF_DEGRADED, onlyShowIfDegraded, () -> this.onlyShowIfDegraded, () -> this.onlyShowIfDegraded = onlyShowIfDegraded));
 	}
 	
 	/**
@@ -150,7 +249,7 @@ public class Component {
 	 * @see #set(String, Status, String, boolean, String, boolean)
 	 */
 	public void setGroupId(String groupId) {
-		set(description, status, name, onlyShowIfDegraded, groupId, showcase);
+		logFailure(setField(FIELD_GROUP_ID, groupId, () -> this.groupId, () -> this.groupId = groupId));
 	}
 	
 	/**
@@ -160,12 +259,15 @@ public class Component {
 	 * @see #set(String, Status, String, boolean, String, boolean)
 	 */
 	public void setShowcase(boolean showcase) {
-		set(description, status, name, onlyShowIfDegraded, groupId, showcase);
+		logFailure(setField(FIELD_SHOWCASE, showcase, () -> this.showcase, () -> this.showcase = showcase));
 	}
 	
 	/**
 	 * Modify the full component. If you need to change multiple values at the same time, it
 	 * is more efficient, to use this method instead of calling the methods for each property to change.
+	 * <br>Only the values that differ from the current ones, including changes that have been sent but not been confirmed yet,
+	 * are sent, so concurrent changes of other values are not overwritten.
+	 * If nothing differs, no request is sent.
 	 * @param description the new description
 	 * @param status the new status
 	 * @param name the new name
@@ -181,29 +283,135 @@ public class Component {
 	 * @see #setShowcase(boolean)
 	 */
 	public void set(String description, Status status, String name, boolean onlyShowIfDegraded, String groupId, boolean showcase) {
-		Route.CompiledRoute route = Route.Components.UPDATE_FULL_COMPONENT.compile(pageId, id);
-		JSONObject payload = new JSONObject().put("component", new JSONObject().put("description", description).put("status", status.name().toLowerCase()).put("name", name)
-				.put("only_show_if_degraded", onlyShowIfDegraded).put("group_id", groupId).put("showcase", showcase));
-		Request request = new Request(route, RequestBody.create(Request.MEDIA_TYPE_JSON, payload.toString()));
-		api.getRequester().queueAsync(request, r -> {
-			if(r.isSuccessful()) {
-				this.description = description;
-				this.status = status;
-				this.name = name;
-				this.onlyShowIfDegraded = onlyShowIfDegraded;
-				this.groupId = groupId;
-				this.showcase = showcase;
+		logFailure(setAsync(description, status, name, onlyShowIfDegraded, groupId, showcase));
+	}
+	
+	/**
+	 * Modify the full component without blocking the calling thread.
+	 * <br>Use this method if you need to wait for or compose multiple updates, e.g.
+	 * <pre>{@code
+	 * CompletableFuture.allOf(components.stream().map(
+	 * 	c -> c.setAsync(c.getDescription(), Status.OPERATIONAL, c.getName(), c.isOnlyShowIfDegraded(), c.getGroupId(), c.isShowcase())
+	 * ).toArray(CompletableFuture[]::new)).join();
+	 * }</pre>
+	 * @param description the new description
+	 * @param status the new status
+	 * @param name the new name
+	 * @param onlyShowIfDegraded a boolean that indicates the new value
+	 * @param groupId the id of the new group
+	 * @param showcase a boolean that indicates the new value
+	 * @return a future that completes with this component, once the change has been applied
+	 * @since 1.1.0
+	 * @see #set(String, Status, String, boolean, String, boolean)
+	 */
+	public CompletableFuture<Component> setAsync(String description, Status status, String name, boolean onlyShowIfDegraded, String groupId, boolean showcase) {
+		PatchBody patch = new PatchBody(FIELD_COMPONENT);
+		Map<ByteString, Long> versions = new HashMap<>();
+		Map<ByteString, Runnable> changes = new HashMap<>();
+		synchronized(this) {
+			// compared with the pending values, so a change reverting a queued one is still sent and merged into it
+			change(patch, versions, changes, FIELD_DESCRIPTION, description, this.description, () -> this.description = description);
+			change(patch, versions, changes, FIELD_STATUS, status, this.status, () -> this.status = status);
+			change(patch, versions, changes, FIELD_NAME, name, this.name, () -> this.name = name);
+			change(patch, versions, changes, FIELD_ONLY_SHOW_IF_DEGRADED, onlyShowIfDegraded, this.onlyShowIfDegraded, () -> this.onlyShowIfDegraded = onlyShowIfDegraded);
+			change(patch, versions, changes, FIELD_GROUP_ID, groupId, this.groupId, () -> this.groupId = groupId);
+			change(patch, versions, changes, FIELD_SHOWCASE, showcase, this.showcase, () -> this.showcase = showcase);
+		}
+		return send(patch, versions, changes);
+	}
+	
+	/**
+	 * Changes a single field. Only this field is compared and sent, so the other fields are never
+	 * sent with values that may be outdated by a change, that has not been confirmed yet
+	 */
+	private CompletableFuture<Component> setField(ByteString field, Object value, Supplier<Object> confirmed, Runnable apply) {
+		PatchBody patch = new PatchBody(FIELD_COMPONENT);
+		Map<ByteString, Long> versions = new HashMap<>();
+		Map<ByteString, Runnable> changes = new HashMap<>();
+		synchronized(this) {
+			change(patch, versions, changes, field, value, confirmed.get(), apply);
+		}
+		return send(patch, versions, changes);
+	}
+	
+	/**
+	 * Sends the changed fields and applies them, once the api accepted them
+	 */
+	private CompletableFuture<Component> send(PatchBody patch, Map<ByteString, Long> versions, Map<ByteString, Runnable> changes) {
+		if(patch.isEmpty()) {
+			return CompletableFuture.completedFuture(this);
+		}
+		Route.CompiledRoute route = Route.Components.UPDATE_COMPONENT.compile(pageId, id);
+		// every field is set to an absolute value, so sending the patch twice is harmless
+		Request request = new Request(route, patch).setRetryable(true);
+		return api.getRequester().submit(request).handle((r, t) -> {
+			boolean accepted = t == null && r.isSuccessful();
+			// only the newest accepted value of a field is applied, so responses completing out of order cannot revert it
+			synchronized(this) {
+				versions.forEach((field, version) -> {
+					if(!accepted) {
+						pending.release(field, version);
+					} else if(pending.confirm(field, version)) {
+						changes.get(field).run();
+					}
+				});
 			}
+			if(t != null) {
+				throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+			}
+			if(!accepted) {
+				throw new IllegalStateException("Could not update "+this+", the api responded with "+r.code());
+			}
+			api.getCache().invalidate(EntityCache.Type.COMPONENT, EntityCache.componentKey(pageId, id));
+			api.getCache().invalidate(EntityCache.Type.COMPONENT_LIST, pageId);
+			return this;
 		});
 	}
 	
+	/**
+	 * Adds a field to the patch, if the value differs from the value the field will have once the pending changes are applied.
+	 * Has to be called while holding the lock of this component
+	 */
+	private void change(PatchBody patch, Map<ByteString, Long> versions, Map<ByteString, Runnable> changes,
+						ByteString field, Object value, Object confirmed, Runnable apply) {
+		if(Objects.equals(value, pending.get(field, confirmed))) {
+			return;
+		}
+		if(value instanceof Boolean) {
+			patch.set(field, (boolean) value);
+		} else {
+			patch.set(field, value == null ? null : value.toString());
+		}
+		versions.put(field, pending.change(field, value));
+		changes.put(field, apply);
+	}
+	
+	private static void logFailure(CompletableFuture<?> future) {
+		future.exceptionally(t -> {
+			t.printStackTrace();
+			return null;
+		});
+	}
+	
+	static void writePayload(JsonWriter writer, String description, Status status, String name, boolean onlyShowIfDegraded, String groupId, boolean showcase) throws IOException {
+		writer.beginObject().name(FIELD_COMPONENT).beginObject()
+				.name(FIELD_DESCRIPTION).value(description).name(FIELD_STATUS).value(status.toString()).name(FIELD_NAME).value(name)
+				.name(FIELD_ONLY_SHOW_IF_DEGRADED).value(onlyShowIfDegraded).name(FIELD_GROUP_ID).value(groupId).name(FIELD_SHOWCASE).value(showcase)
+				.endObject().endObject();
+	}
+	
 	/**
 	 * Deletes this component.
 	 * <br>Be careful, this <b>cannot be undone</b>
 	 * @since 1.0.0
 	 */
 	public void delete() {
-		api.getPage(pageId).delete(this);
+		Route.CompiledRoute route = Route.Components.DELETE_COMPONENT.compile(pageId, id);
+		Request request = new Request(route, Request.EMPTY_BODY);
+		api.getRequester().queueAsync(request, r -> {
+			api.getCache().invalidate(EntityCache.Type.COMPONENT, EntityCache.componentKey(pageId, id));
+			api.getCache().invalidate(EntityCache.Type.COMPONENT_LIST, pageId);
+		});
 	}
 	
 	//Getters
@@ -279,14 +487,29 @@ public class Component {
 	
 	/**
 	 * Gets the {@link Page} where this Component is located.
-	 * This is a shortcut for 
-	 * <pre>{@code getApi().getPage(getPageId())}</pre>
+	 * <br>Components obtained from a Page keep a reference to it. Otherwise the Page is requested
+	 * with {@link StatuspageAPI#getPage(String)} on the first call and kept afterwards,
+	 * so it may not reflect later changes of the page.
 	 * @return the Page
 	 * @since 1.0.0
 	 * @see #getPageId()
 	 */
 	public Page getPage() {
-		return api.getPage(pageId);
+		Page page = this.page;
+		if(page == null) {
+			page = api.getPage(pageId);
+			this.page = page;
+		}
+		return page;
+	}
+	
+	/**
+	 * Sets the {@link Page} returned by {@link #getPage()}, if it is the page of this component
+	 */
+	void setPage(Page page) {
+		if(page.getId().equals(pageId)) {
+			this.page = page;
+		}
 	}
 	
 	/**
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+
+package com.github.taucher2003.atlassian_statuspage_api.entities;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An in-process cache of the entities requested by one {@link com.github.taucher2003.atlassian_statuspage_api.StatuspageAPI}.
+ * <br>Entries expire after the time to live of their {@link Type} and the least recently used entries are evicted,
+ * once the cache is full. Changes made through this library invalidate the affected entries.
+ * <br>The time to live of every type is {@code 0} by default, so entities are only served from the cache
+ * once a time to live has been set.
+ *
+ * @since 1.1.0
+ */
+public class EntityCache {
+
+	/**
+	 * The types of cached entities. Every type has its own time to live
+	 *
+	 * @since 1.1.0
+	 */
+	public enum Type {
+		/**
+		 * A single {@link Page}, keyed by its id
+		 */
+		PAGE,
+		/**
+		 * A single {@link Component}, keyed by the id of its page and its own id
+		 */
+		COMPONENT,
+		/**
+		 * All {@link Component Components} of a page, keyed by the id of the page
+		 */
+		COMPONENT_LIST
+	}
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final Map<String, Entry<?>> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<Type, Long> ttlNanos = new EnumMap<>(Type.class);
+	private final Set<String> refreshing = new HashSet<>();
+	private int maxSize;
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates a cache with {@link #DEFAULT_MAX_SIZE} entries
+	 * @since 1.1.0
+	 */
+	public EntityCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a cache
+	 * @param maxSize the maximum number of entries
+	 * @since 1.1.0
+	 */
+	public EntityCache(int maxSize) {
+		setMaxSize(maxSize);
+		for(Type type : Type.values()) {
+			ttlNanos.put(type, 0L);
+		}
+	}
+
+	/**
+	 * Creates the key of a {@link Type#COMPONENT}
+	 * @param pageId the id of the page of the component
+	 * @param componentId the id of the component
+	 * @return the key
+	 * @since 1.1.0
+	 */
+	public static String componentKey(String pageId, String componentId) {
+		return pageId+"/"+componentId;
+	}
+
+	/**
+	 * Gets an entity, if it is cached and has not expired. Every call counts as hit or miss
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @param <T> the type of the entity
+	 * @return the entity, or null
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T> T get(Type type, String key) {
+		Entry<?> entry = entries.get(key(type, key));
+		if(entry == null || System.nanoTime() - entry.storedAt >= ttlNanos.get(type)) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return (T) entry.value;
+	}
+
+	/**
+	 * Gets an entity, if it is cached and not older than the given staleness, regardless of the time to live of its type.
+	 * Every call counts as hit or miss
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @param maxStaleness the maximum age of the entity
+	 * @param unit the unit of the maximum age
+	 * @param <T> the type of the entity
+	 * @return the entity, or null
+	 * @since 1.1.0
+	 * @see #isExpired(Type, String)
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T> T get(Type type, String key, long maxStaleness, TimeUnit unit) {
+		Entry<?> entry = entries.get(key(type, key));
+		if(entry == null || System.nanoTime() - entry.storedAt >= unit.toNanos(maxStaleness)) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return (T) entry.value;
+	}
+
+	/**
+	 * Checks if an entity would not be returned by {@link #get(Type, String)}, because it is not cached or has expired
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @return true, if the entity has to be requested again
+	 * @since 1.1.0
+	 */
+	public synchronized boolean isExpired(Type type, String key) {
+		Entry<?> entry = entries.get(key(type, key));
+		return entry == null || System.nanoTime() - entry.storedAt >= ttlNanos.get(type);
+	}
+
+	/**
+	 * Marks an entity as being refreshed in the background, so only one refresh is started at a time
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @return true, if the caller should start the refresh, false if a refresh is already running
+	 * @since 1.1.0
+	 * @see #finishRefresh(Type, String)
+	 */
+	public synchronized boolean startRefresh(Type type, String key) {
+		return refreshing.add(key(type, key));
+	}
+
+	/**
+	 * Marks the background refresh of an entity as done, whether it succeeded or not
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @since 1.1.0
+	 * @see #startRefresh(Type, String)
+	 */
+	public synchronized void finishRefresh(Type type, String key) {
+		refreshing.remove(key(type, key));
+	}
+
+	/**
+	 * Gets the entry of an entity, even if it has expired. This is not counted as hit or miss.
+	 * <br>The entry contains the validators of the response the entity has been decoded from,
+	 * which can be sent with a {@link com.github.taucher2003.atlassian_statuspage_api.requests.Request#setConditional(String, String) conditional request}
+	 * to revalidate exactly this entity.
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @param <T> the type of the entity
+	 * @return the entry, or null if the entity is not cached
+	 * @since 1.1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T> Entry<T> peek(Type type, String key) {
+		return (Entry<T>) entries.get(key(type, key));
+	}
+
+	/**
+	 * Stores an entity. It is kept until it is invalidated or evicted, but only returned by {@link #get(Type, String)}
+	 * within the time to live of its type
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @param value the entity
+	 * @since 1.1.0
+	 */
+	public synchronized void put(Type type, String key, Object value) {
+		put(type, key, value, null, null);
+	}
+
+	/**
+	 * Stores an entity together with the validators of the response it has been decoded from
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @param value the entity
+	 * @param etag the {@code ETag} header of the response, may be null
+	 * @param lastModified the {@code Last-Modified} header of the response, may be null
+	 * @since 1.1.0
+	 * @see #peek(Type, String)
+	 */
+	public synchronized void put(Type type, String key, Object value, String etag, String lastModified) {
+		entries.put(key(type, key), new Entry<>(value, etag, lastModified, System.nanoTime()));
+		evict();
+	}
+
+	/**
+	 * Removes an entity
+	 * @param type the type of the entity
+	 * @param key the key of the entity
+	 * @since 1.1.0
+	 */
+	public synchronized void invalidate(Type type, String key) {
+		entries.remove(key(type, key));
+	}
+
+	/**
+	 * Removes all entities
+	 * @since 1.1.0
+	 */
+	public synchronized void invalidateAll() {
+		entries.clear();
+	}
+
+	public synchronized long getTtl(Type type, TimeUnit unit) {
+		return unit.convert(ttlNanos.get(type), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Sets how long entities of a type are returned from the cache
+	 * @param type the type
+	 * @param ttl the time to live, {@code 0} to always request the entities
+	 * @param unit the unit of the time to live
+	 * @since 1.1.0
+	 */
+	public synchronized void setTtl(Type type, long ttl, TimeUnit unit) {
+		ttlNanos.put(type, unit.toNanos(ttl));
+	}
+
+	public synchronized int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets the maximum number of entries. The least recently used entries are evicted, if there are more
+	 * @param maxSize the maximum number of entries
+	 * @since 1.1.0
+	 */
+	public synchronized void setMaxSize(int maxSize) {
+		if(maxSize < 0) {
+			throw new IllegalArgumentException("maxSize must not be negative, but was "+maxSize);
+		}
+		this.maxSize = maxSize;
+		evict();
+	}
+
+	public synchronized int getSize() {
+		return entries.size();
+	}
+
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	private void evict() {
+		Iterator<Entry<?>> iterator = entries.values().iterator();
+		while(entries.size() > maxSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private static String key(Type type, String key) {
+		return type.name()+":"+key;
+	}
+
+	/**
+	 * A cached entity with the validators of the response it has been decoded from
+	 *
+	 * @param <T> the type of the entity
+	 * @since 1.1.0
+	 */
+	public static class Entry<T> {
+		private final T value;
+		private final String etag;
+		private final String lastModified;
+		private final long storedAt;
+
+		private Entry(T value, String etag, String lastModified, long storedAt) {
+			this.value = value;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.storedAt = storedAt;
+		}
+
+		public T getValue() {
+			return value;
+		}
+
+		public String getETag() {
+			return etag;
+		}
+
+		public String getLastModified() {
+			return lastModified;
+		}
+	}
+}
@@ -17,21 +17,67 @@
 package com.github.taucher2003.atlassian_statuspage_api.entities;
 
 import com.github.taucher2003.atlassian_statuspage_api.StatuspageAPI;
+import com.github.taucher2003.atlassian_statuspage_api.requests.JsonArrayIterator;
+import com.github.taucher2003.atlassian_statuspage_api.requests.JsonReader;
+import com.github.taucher2003.atlassian_statuspage_api.requests.JsonWriter;
+import com.github.taucher2003.atlassian_statuspage_api.requests.PatchBody;
 import com.github.taucher2003.atlassian_statuspage_api.requests.Request;
 import com.github.taucher2003.atlassian_statuspage_api.requests.Route;
-import com.squareup.okhttp.RequestBody;
 import com.squareup.okhttp.Response;
-import org.json.JSONArray;
 import org.json.JSONException;
+import okio.ByteString;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class Page {
 
+	// Field names of the payloads, encoded once
+	private static final ByteString FIELD_NAME = JsonWriter.encodeName("name");
+	private static final ByteString FIELD_PAGE = JsonWriter.encodeName("page");
+	private static final ByteString FIELD_DOMAIN = JsonWriter.encodeName("domain");
+	private static final ByteString FIELD_SUBDOMAIN = JsonWriter.encodeName("subdomain");
+	private static final ByteString FIELD_URL = JsonWriter.encodeName("url");
+	private static final ByteString FIELD_BRANDING = JsonWriter.encodeName("branding");
+	private static final ByteString FIELD_CSS_BODY_BACKGROUND_COLOR = JsonWriter.encodeName("css_body_background_color");
+	private static final ByteString FIELD_CSS_FONT_COLOR = JsonWriter.encodeName("css_font_color");
+	private static final ByteString FIELD_CSS_LIGHT_FONT_COLOR = JsonWriter.encodeName("css_light_font_color");
+	private static final ByteString FIELD_CSS_GREENS = JsonWriter.encodeName("css_greens");
+	private static final ByteString FIELD_CSS_YELLOWS = JsonWriter.encodeName("css_yellows");
+	private static final ByteString FIELD_CSS_ORANGES = JsonWriter.encodeName("css_oranges");
+	private static final ByteString FIELD_CSS_REDS = JsonWriter.encodeName("css_reds");
+	private static final ByteString FIELD_CSS_BLUES = JsonWriter.encodeName("css_blues");
+	private static final ByteString FIELD_CSS_BORDER_COLOR = JsonWriter.encodeName("css_border_color");
+	private static final ByteString FIELD_CSS_GRAPH_COLOR = JsonWriter.encodeName("css_graph_color");
+	private static final ByteString FIELD_CSS_LINK_COLOR = JsonWriter.encodeName("css_link_color");
+	private static final ByteString FIELD_CSS_NO_DATA = JsonWriter.encodeName("css_no_data");
+	private static final ByteString FIELD_HIDDEN_FROM_SEARCH = JsonWriter.encodeName("hidden_from_search");
+	private static final ByteString FIELD_VIEWERS_MUST_BE_TEAM_MEMBERS = JsonWriter.encodeName("viewers_must_be_team_members");
+	private static final ByteString FIELD_ALLOW_PAGE_SUBSCRIBERS = JsonWriter.encodeName("allow_page_subscribers");
+	private static final ByteString FIELD_ALLOW_INCIDENT_SUBSCRIBERS = JsonWriter.encodeName("allow_incident_subscribers");
+	private static final ByteString FIELD_ALLOW_EMAIL_SUBSCRIBERS = JsonWriter.encodeName("allow_email_subscribers");
+	private static final ByteString FIELD_ALLOW_SMS_SUBSCRIBERS = JsonWriter.encodeName("allow_sms_subscribers");
+	private static final ByteString FIELD_ALLOW_RSS_ATOM_FEEDS = JsonWriter.encodeName("allow_rss_atom_feeds");
+	private static final ByteString FIELD_ALLOW_WEBHOOK_SUBSCRIBERS = JsonWriter.encodeName("allow_webhook_subscribers");
+	private static final ByteString FIELD_NOTIFICATIONS_FROM_EMAIL = JsonWriter.encodeName("notifications_from_email");
+	private static final ByteString FIELD_TIME_ZONE = JsonWriter.encodeName("time_zone");
+	private static final ByteString FIELD_NOTIFICATIONS_EMAIL_FOOTER = JsonWriter.encodeName("notifications_email_footer");
+
 	private final StatuspageAPI api;
 
 	private final String id;
@@ -79,6 +125,7 @@ public class Page {
 	private String cssGraphColor;
 	private String cssLinkColor;
 	private String cssNoData;
+	private final PendingFields pending = new PendingFields();
 
 	private Page(StatuspageAPI api,
 				 String id, OffsetDateTime createdAt, OffsetDateTime updatedAt, String name, String pageDescription, String headline, String branding, String subdomain, String domain, String url, String supportUrl,
@@ -185,11 +232,223 @@ public class Page {
 				json.getBoolean("viewers_must_be_team_members"), ipRestrictions, city, state, country, 
 				timeZone, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, 
 				cssYellows, cssOranges, cssBlues, cssReds, cssBorderColor, 
-				cssGraphColor, cssLinkColor, cssNoData, FaviconLogo.fromJson(json.getJSONObject("twitter_logo")), 
+				cssGraphColor, cssLinkColor, cssNoData, FaviconLogo.fromJson(json.getJSONObject("favicon_logo")), 
 				TransactionalLogo.fromJson(json.getJSONObject("transactional_logo")), HeroCover.fromJson(json.getJSONObject("hero_cover")), 
 				EmailLogo.fromJson(json.getJSONObject("email_logo")), TwitterLogo.fromJson(json.getJSONObject("twitter_logo")));
 	}
 	
+	/**
+	 * Reads a {@link Page} instance directly from the response. This method <b>should not be used</b> in your code.
+	 * <br>The result is the same as of {@link #fromJson(StatuspageAPI, JSONObject)}, but every field is read once
+	 * without building a JSONObject first.
+	 * @param api the api instance, that requested this resource
+	 * @param reader the reader, positioned in front of the page object
+	 * @return a Page instance
+	 * @throws IOException if the response could not be read
+	 * @since 1.1.0
+	 */
+	public static Page read(StatuspageAPI api, JsonReader reader) throws IOException {
+		String id = null;
+		OffsetDateTime createdAt = null;
+		OffsetDateTime updatedAt = null;
+		String name = null;
+		String pageDescription = null;
+		String headline = null;
+		String branding = null;
+		String subdomain = null;
+		String domain = null;
+		String url = null;
+		String supportUrl = null;
+		String notificationsFromEmail = null;
+		String notificationsEmailFooter = null;
+		String twitterUsername = null;
+		String ipRestrictions = null;
+		String city = null;
+		String state = null;
+		String country = null;
+		String timeZone = null;
+		String cssBodyBackgroundColor = null;
+		String cssFontColor = null;
+		String cssLightFontColor = null;
+		String cssGreens = null;
+		String cssYellows = null;
+		String cssOranges = null;
+		String cssBlues = null;
+		String cssReds = null;
+		String cssBorderColor = null;
+		String cssGraphColor = null;
+		String cssLinkColor = null;
+		String cssNoData = null;
+		boolean hiddenFromSearch = false;
+		boolean allowPageSubscribers = false;
+		boolean allowIncidentSubscribers = false;
+		boolean allowEmailSubscribers = false;
+		boolean allowSmsSubscribers = false;
+		boolean allowRssSubscribers = false;
+		boolean allowWebhookSubscribers = false;
+		boolean viewersMustBeTeamMembers = false;
+		int activityScore = 0;
+		FaviconLogo faviconLogo = null;
+		TransactionalLogo transactionalLogo = null;
+		HeroCover heroCover = null;
+		EmailLogo emailLogo = null;
+		TwitterLogo twitterLogo = null;
+		reader.beginObject();
+		while(reader.hasNext()) {
+			switch(reader.nextName()) {
+				case "id":
+					id = reader.nextStringOrNull();
+					break;
+				case "created_at":
+					createdAt = reader.nextDateTimeOrNull();
+					break;
+				case "updated_at":
+					updatedAt = reader.nextDateTimeOrNull();
+					break;
+				case "name":
+					name = reader.nextStringOrNull();
+					break;
+				case "page_description":
+					pageDescription = reader.nextStringOrNull();
+					break;
+				case "headline":
+					headline = reader.nextStringOrNull();
+					break;
+				case "branding":
+					branding = reader.nextStringOrNull();
+					break;
+				case "subdomain":
+					subdomain = reader.nextStringOrNull();
+					break;
+				case "domain":
+					domain = reader.nextStringOrNull();
+					break;
+				case "url":
+					url = reader.nextStringOrNull();
+					break;
+				case "support_url":
+					supportUrl = reader.nextStringOrNull();
+					break;
+				case "notifications_from_email":
+					notificationsFromEmail = reader.nextStringOrNull();
+					break;
+				case "notifications_email_footer":
+					notificationsEmailFooter = reader.nextStringOrNull();
+					break;
+				case "twitter_username":
+					twitterUsername = reader.nextStringOrNull();
+					break;
+				case "ip_restrictions":
+					ipRestrictions = reader.nextStringOrNull();
+					break;
+				case "city":
+					city = reader.nextStringOrNull();
+					break;
+				case "state":
+					state = reader.nextStringOrNull();
+					break;
+				case "country":
+					country = reader.nextStringOrNull();
+					break;
+				case "time_zone":
+					timeZone = reader.nextStringOrNull();
+					break;
+				case "css_body_background_color":
+					cssBodyBackgroundColor = reader.nextStringOrNull();
+					break;
+				case "css_font_color":
+					cssFontColor = reader.nextStringOrNull();
+					break;
+				case "css_light_font_color":
+					cssLightFontColor = reader.nextStringOrNull();
+					break;
+				case "css_greens":
+					cssGreens = reader.nextStringOrNull();
+					break;
+				case "css_yellows":
+					cssYellows = reader.nextStringOrNull();
+					break;
+				case "css_oranges":
+					cssOranges = reader.nextStringOrNull();
+					break;
+				case "css_blues":
+					cssBlues = reader.nextStringOrNull();
+					break;
+				case "css_reds":
+					cssReds = reader.nextStringOrNull();
+					break;
+				case "css_border_color":
+					cssBorderColor = reader.nextStringOrNull();
+					break;
+				case "css_graph_color":
+					cssGraphColor = reader.nextStringOrNull();
+					break;
+				case "css_link_color":
+					cssLinkColor = reader.nextStringOrNull();
+					break;
+				case "css_no_data":
+					cssNoData = reader.nextStringOrNull();
+					break;
+				case "hidden_from_search":
+					hiddenFromSearch = reader.nextBoolean(false);
+					break;
+				case "allow_page_subscribers":
+					allowPageSubscribers = reader.nextBoolean(false);
+					break;
+				case "allow_incident_subscribers":
+					allowIncidentSubscribers = reader.nextBoolean(false);
+					break;
+				case "allow_email_subscribers":
+					allowEmailSubscribers = reader.nextBoolean(false);
+					break;
+				case "allow_sms_subscribers":
+					allowSmsSubscribers = reader.nextBoolean(false);
+					break;
+				case "allow_rss_atom_feeds":
+					allowRssSubscribers = reader.nextBoolean(false);
+					break;
+				case "allow_webhook_subscribers":
+					allowWebhookSubscribers = reader.nextBoolean(false);
+					break;
+				case "viewers_must_be_team_members":
+					viewersMustBeTeamMembers = reader.nextBoolean(false);
+					break;
+				case "activity_score":
+					Integer activityScoreValue = reader.nextIntOrNull();
+					activityScore = activityScoreValue == null ? 0 : activityScoreValue;
+					break;
+				case "favicon_logo":
+					faviconLogo = FaviconLogo.read(reader);
+					break;
+				case "transactional_logo":
+					transactionalLogo = TransactionalLogo.read(reader);
+					break;
+				case "hero_cover":
+					heroCover = HeroCover.read(reader);
+					break;
+				case "email_logo":
+					emailLogo = EmailLogo.read(reader);
+					break;
+				case "twitter_logo":
+					twitterLogo = TwitterLogo.read(reader);
+					break;
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return new Page(api, id, createdAt, updatedAt, 
+				name, pageDescription, headline, branding, subdomain, domain, url,
+				supportUrl, hiddenFromSearch, allowPageSubscribers, allowIncidentSubscribers, 
+				allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers, allowWebhookSubscribers, 
+				notificationsFromEmail, notificationsEmailFooter, activityScore, twitterUsername, 
+				viewersMustBeTeamMembers, ipRestrictions, city, state, country, 
+				timeZone, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, 
+				cssYellows, cssOranges, cssBlues, cssReds, cssBorderColor, 
+				cssGraphColor, cssLinkColor, cssNoData, faviconLogo, 
+				transactionalLogo, heroCover, emailLogo, twitterLogo);
+	}
+	
 	// Components
 	
 	/**
@@ -204,45 +463,239 @@ public class Page {
 	 * @since 1.0.0
 	 */
 	public Component createComponent(String description, Status status, String name, boolean onlyShowIfDegraded, String groupId, boolean showcase) {
-		Route.CompiledRoute route = Route.Components.CREATE_COMPONENT.compile(id);
-		JSONObject payload = new JSONObject().put("component", new JSONObject().put("description", description)
-				.put("status", status.name().toLowerCase()).put("name", name).put("only_show_if_degraded", onlyShowIfDegraded)
-				.put("group_id", groupId).put("showcase", showcase));
-		Request request = new Request(route, RequestBody.create(Request.MEDIA_TYPE_JSON, payload.toString()));
+		Request request = createComponentRequest(description, status, name, onlyShowIfDegraded, groupId, showcase);
 		Response response = api.getRequester().queue(request);
-		try {
-			JSONObject json = new JSONObject(response.body().string());
-			return Component.fromJson(api, json);
+		if(response == null) {
+			return null;
+		}
+		api.getCache().invalidate(EntityCache.Type.COMPONENT_LIST, id);
+		try(JsonReader reader = new JsonReader(response.body().source())) {
+			return readComponent(reader);
 		}catch(JSONException | IOException e) {
 			e.printStackTrace();
 		}
 		return null;
 	}
 	
+	/**
+	 * Creates a {@link Component} in this {@link Page} without blocking the calling thread
+	 * @param description the description of the Component
+	 * @param status the Status of the Component
+	 * @param name the Name of the Component
+	 * @param onlyShowIfDegraded the component will only be shown, if its status is degraded.
+	 * @param groupId the id of the group this component belongs to
+	 * @param showcase true, if this component should be shown
+	 * @return a future that completes with the created component
+	 * @since 1.1.0
+	 * @see #createComponent(String, Status, String, boolean, String, boolean)
+	 */
+	public CompletableFuture<Component> createComponentAsync(String description, Status status, String name, boolean onlyShowIfDegraded, String groupId, boolean showcase) {
+		Request request = createComponentRequest(description, status, name, onlyShowIfDegraded, groupId, showcase);
+		return api.getRequester().submit(request).thenApply(response -> {
+			api.getCache().invalidate(EntityCache.Type.COMPONENT_LIST, id);
+			try(JsonReader reader = new JsonReader(response.body().source())) {
+				return readComponent(reader);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	private Request createComponentRequest(String description, Status status, String name, boolean onlyShowIfDegraded, String groupId, boolean showcase) {
+		Route.CompiledRoute route = Route.Components.CREATE_COMPONENT.compile(id);
+		return new Request(route, Request.jsonBody(writer -> Component.writePayload(writer, description, status, name, onlyShowIfDegraded, groupId, showcase)));
+	}
+	
 	/**
 	 * Get a list of all {@link Component} you have access to
 	 * @return a list with the Component instances
 	 * @since 1.0.0
+	 * @see StatuspageAPI#getCache()
 	 */
 	public List<Component> getComponents(){
-		List<Component> result = new ArrayList<>();
+		return getComponents(false);
+	}
+	
+	/**
+	 * Get a list of all {@link Component} you have access to
+	 * @param bypassCache true, to request the components even if they are {@link StatuspageAPI#getCache() cached}
+	 * @return a list with the Component instances
+	 * @since 1.1.0
+	 */
+	public List<Component> getComponents(boolean bypassCache){
+		if(!bypassCache) {
+			List<Component> cached = api.getCache().get(EntityCache.Type.COMPONENT_LIST, id);
+			if(cached != null) {
+				return new ArrayList<>(cached);
+			}
+		}
+		EntityCache.Entry<List<Component>> previous = api.getCache().peek(EntityCache.Type.COMPONENT_LIST, id);
 		Route.CompiledRoute route = Route.Components.GET_COMPONENT_LIST.compile(id);
 		Request request = new Request(route, Request.EMPTY_BODY);
+		if(previous != null) {
+			request.setConditional(previous.getETag(), previous.getLastModified());
+		}
 		try {
 			Response response = api.getRequester().queue(request);
-			JSONArray jsonList = new JSONArray(response.body().string());
-			for(Object jsonObj : jsonList) {
-				if(jsonObj instanceof JSONObject) {
-					JSONObject json = (JSONObject) jsonObj;
-					Component page = Component.fromJson(api, json);
-					result.add(page);
-				}else {
-					System.err.println(jsonObj+" was not an JSONObject");
-				}
+			return readComponents(response, previous);
+		}catch(Exception e) {
+			e.printStackTrace();
+		}
+		return new ArrayList<>();
+	}
+	
+	/**
+	 * Get a list of all {@link Component} you have access to without blocking the calling thread
+	 * @return a future that completes with a list of the Component instances
+	 * @since 1.1.0
+	 * @see #getComponents()
+	 */
+	public CompletableFuture<List<Component>> getComponentsAsync(){
+		return getComponentsAsync(false);
+	}
+	
+	/**
+	 * Get a list of all {@link Component} you have access to without blocking the calling thread
+	 * @param bypassCache true, to request the components even if they are {@link StatuspageAPI#getCache() cached}
+	 * @return a future that completes with a list of the Component instances
+	 * @since 1.1.0
+	 * @see #getComponents(boolean)
+	 */
+	public CompletableFuture<List<Component>> getComponentsAsync(boolean bypassCache){
+		if(!bypassCache) {
+			List<Component> cached = api.getCache().get(EntityCache.Type.COMPONENT_LIST, id);
+			if(cached != null) {
+				return CompletableFuture.completedFuture(new ArrayList<>(cached));
+			}
+		}
+		return requestComponentsAsync(true);
+	}
+	
+	/**
+	 * Requests the components and caches them
+	 * @param wait true, to wait for space in the queue, false to give up, if the queue is full
+	 * @return a future that completes with the components, or null if the queue is full
+	 */
+	private CompletableFuture<List<Component>> requestComponentsAsync(boolean wait) {
+		EntityCache.Entry<List<Component>> previous = api.getCache().peek(EntityCache.Type.COMPONENT_LIST, id);
+		Route.CompiledRoute route = Route.Components.GET_COMPONENT_LIST.compile(id);
+		Request request = new Request(route, Request.EMPTY_BODY);
+		if(previous != null) {
+			request.setConditional(previous.getETag(), previous.getLastModified());
+		}
+		CompletableFuture<Response> future = wait ? api.getRequester().submit(request) : api.getRequester().trySubmit(request);
+		if(future == null) {
+			return null;
+		}
+		return future.thenApply(response -> {
+			try {
+				return readComponents(response, previous);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	/**
+	 * Get a list of all {@link Component} you have access to, accepting a cached list up to the given age.
+	 * <br>If such a list is {@link StatuspageAPI#getCache() cached}, it is returned immediately, without waiting for the queue.
+	 * If it is older than the time to live of {@link EntityCache.Type#COMPONENT_LIST}, one refresh is started
+	 * in the background, so following calls get the updated list. Only one refresh per page runs at a time,
+	 * and it is skipped, if the queue of the {@link com.github.taucher2003.atlassian_statuspage_api.requests.Requester Requester} is full.
+	 * <br>If no list is cached, or it is older than the maximum staleness, the components are requested like {@link #getComponents(boolean)}.
+	 * @param maxStaleness the maximum age of a cached list
+	 * @param unit the unit of the maximum age
+	 * @return a list of the Component instances
+	 * @since 1.1.0
+	 * @see EntityCache#setTtl(EntityCache.Type, long, TimeUnit)
+	 */
+	public List<Component> getComponents(long maxStaleness, TimeUnit unit){
+		EntityCache cache = api.getCache();
+		List<Component> cached = cache.get(EntityCache.Type.COMPONENT_LIST, id, maxStaleness, unit);
+		if(cached == null) {
+			return getComponents(true);
+		}
+		if(cache.isExpired(EntityCache.Type.COMPONENT_LIST, id) && cache.startRefresh(EntityCache.Type.COMPONENT_LIST, id)) {
+			CompletableFuture<List<Component>> refresh = null;
+			try {
+				// never waits for space in the queue, the refresh is skipped if it is full
+				refresh = requestComponentsAsync(false);
+			} catch (RuntimeException e) {
+				// the requester has been shutdown, the cached list is returned anyway
+			}
+			if(refresh == null) {
+				cache.finishRefresh(EntityCache.Type.COMPONENT_LIST, id);
+			} else {
+				refresh.whenComplete((components, throwable) -> cache.finishRefresh(EntityCache.Type.COMPONENT_LIST, id));
+			}
+		}
+		return new ArrayList<>(cached);
+	}
+	
+	/**
+	 * Streams all {@link Component Components} of this page. The components are decoded one at a time
+	 * while the response is received, so the memory usage stays constant for pages with many components.
+	 * <br>The stream holds the connection until it has been consumed or closed:
+	 * <pre>{@code
+	 * try(Stream<Component> components = page.streamComponents()) {
+	 * 	components.filter(c -> c.getStatus() != Status.OPERATIONAL).forEach(System.out::println);
+	 * }
+	 * }</pre>
+	 * @return a stream of the Component instances, empty if the request failed
+	 * @since 1.1.0
+	 * @see #forEachComponent(Consumer)
+	 */
+	public Stream<Component> streamComponents() {
+		Route.CompiledRoute route = Route.Components.GET_COMPONENT_LIST.compile(id);
+		Request request = new Request(route, Request.EMPTY_BODY).setStreaming(true);
+		try {
+			Response response = api.getRequester().queue(request);
+			if(response != null) {
+				return new JsonArrayIterator<>(response, reader -> readComponent(reader)).stream();
 			}
 		}catch(Exception e) {
 			e.printStackTrace();
 		}
+		return Stream.empty();
+	}
+	
+	/**
+	 * Passes every {@link Component} of this page to the given callback as soon as it has been decoded
+	 * @param action the callback
+	 * @since 1.1.0
+	 * @see #streamComponents()
+	 */
+	public void forEachComponent(Consumer<Component> action) {
+		try(Stream<Component> components = streamComponents()) {
+			components.forEach(action);
+		}
+	}
+	
+	/**
+	 * Decodes a component of this page, which keeps a reference to this page instead of requesting it again
+	 */
+	private Component readComponent(JsonReader reader) throws IOException {
+		Component component = Component.read(api, reader);
+		component.setPage(this);
+		return component;
+	}
+	
+	/**
+	 * Decodes the components, or returns the previous list, if the api responded that it has not been modified
+	 */
+	private List<Component> readComponents(Response response, EntityCache.Entry<List<Component>> previous) throws IOException {
+		if(response.code() == 304 && previous != null) {
+			api.getCache().put(EntityCache.Type.COMPONENT_LIST, id, previous.getValue(), previous.getETag(), previous.getLastModified());
+			return new ArrayList<>(previous.getValue());
+		}
+		List<Component> result = new ArrayList<>();
+		new JsonArrayIterator<>(response, reader -> readComponent(reader)).forEachRemaining(result::add);
+		EntityCache cache = api.getCache();
+		cache.put(EntityCache.Type.COMPONENT_LIST, id, Collections.unmodifiableList(new ArrayList<>(result)),
+				response.header("ETag"), response.header("Last-Modified"));
+		for(Component component : result) {
+			cache.put(EntityCache.Type.COMPONENT, EntityCache.componentKey(id, component.getId()), component);
+		}
 		return result;
 	}
 	
@@ -258,14 +711,45 @@ public class Page {
 	 * @param componentId the id of the component
 	 * @return the Component instance
 	 * @since 1.0.0
+	 * @see StatuspageAPI#getCache()
 	 */
 	public Component getComponent(String componentId) {
+		return getComponent(componentId, false);
+	}
+	
+	/**
+	 * Get a {@link Component} with the given id
+	 * @param componentId the id of the component
+	 * @param bypassCache true, to request the component even if it is {@link StatuspageAPI#getCache() cached}
+	 * @return the Component instance
+	 * @since 1.1.0
+	 */
+	public Component getComponent(String componentId, boolean bypassCache) {
+		String cacheKey = EntityCache.componentKey(id, componentId);
+		if(!bypassCache) {
+			Component cached = api.getCache().get(EntityCache.Type.COMPONENT, cacheKey);
+			if(cached != null) {
+				return cached;
+			}
+		}
+		EntityCache.Entry<Component> previous = api.getCache().peek(EntityCache.Type.COMPONENT, cacheKey);
 		Route.CompiledRoute route = Route.Components.GET_COMPONENT.compile(id, componentId);
 		Request request = new Request(route, Request.EMPTY_BODY);
+		if(previous != null) {
+			request.setConditional(previous.getETag(), previous.getLastModified());
+		}
 		Response response = api.getRequester().queue(request);
-		try {
-			JSONObject json = new JSONObject(response.body().string());
-			return Component.fromJson(api, json);
+		if(response == null) {
+			return null;
+		}
+		if(response.code() == 304 && previous != null) {
+			api.getCache().put(EntityCache.Type.COMPONENT, cacheKey, previous.getValue(), previous.getETag(), previous.getLastModified());
+			return previous.getValue();
+		}
+		try(JsonReader reader = new JsonReader(response.body().source())) {
+			Component component = readComponent(reader);
+			api.getCache().put(EntityCache.Type.COMPONENT, cacheKey, component, response.header("ETag"), response.header("Last-Modified"));
+			return component;
 		} catch (JSONException | IOException e) {
 			e.printStackTrace();
 		}
@@ -291,7 +775,10 @@ public class Page {
 	public void delete(String componentId) {
 		Route.CompiledRoute route = Route.Components.DELETE_COMPONENT.compile(id, componentId);
 		Request request = new Request(route, Request.EMPTY_BODY);
-		api.getRequester().queueAsync(request);
+		api.getRequester().queueAsync(request, r -> {
+			api.getCache().invalidate(EntityCache.Type.COMPONENT, EntityCache.componentKey(id, componentId));
+			api.getCache().invalidate(EntityCache.Type.COMPONENT_LIST, id);
+		});
 	}
 	
 	// Modify
@@ -305,9 +792,7 @@ public class Page {
 	 * @since 1.0.0
 	 */
 	public void setName(String name) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setName(name).commit());
 	}
 	
 	/**
@@ -318,9 +803,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setDomain(String domain) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setDomain(domain).commit());
 	}
 	
 	/**
@@ -331,9 +814,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setSubdomain(String subdomain) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setSubdomain(subdomain).commit());
 	}
 	
 	/**
@@ -344,9 +825,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setUrl(String url) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setUrl(url).commit());
 	}
 	
 	/**
@@ -357,9 +836,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setBranding(String branding) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setBranding(branding).commit());
 	}
 	
 	/**
@@ -370,9 +847,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSBodyBackgroundColor(String cssBodyBackgroundColor) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSBodyBackgroundColor(cssBodyBackgroundColor).commit());
 	}
 	
 	/**
@@ -383,9 +858,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSFontColor(String cssFontColor) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSFontColor(cssFontColor).commit());
 	}
 	
 	/**
@@ -396,9 +869,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSLightFontColor(String cssLightFontColor) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSLightFontColor(cssLightFontColor).commit());
 	}
 	
 	/**
@@ -409,9 +880,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSGreens(String cssGreens) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSGreens(cssGreens).commit());
 	}
 	
 	/**
@@ -422,9 +891,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSYellows(String cssYellows) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSYellows(cssYellows).commit());
 	}
 	
 	/**
@@ -435,9 +902,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSOranges(String cssOranges) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSOranges(cssOranges).commit());
 	}
 	
 	/**
@@ -448,9 +913,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSReds(String cssReds) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSReds(cssReds).commit());
 	}
 	
 	/**
@@ -461,9 +924,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSBlues(String cssBlues) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSBlues(cssBlues).commit());
 	}
 	
 	/**
@@ -474,9 +935,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSBorderColor(String cssBorderColor) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSBorderColor(cssBorderColor).commit());
 	}
 	
 	/**
@@ -487,9 +946,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSGraphColor(String cssGraphColor) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSGraphColor(cssGraphColor).commit());
 	}
 	
 	/**
@@ -500,9 +957,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSLinkColor(String cssLinkColor) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSLinkColor(cssLinkColor).commit());
 	}
 	
 	/**
@@ -513,9 +968,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setCSSNoData(String cssNoData) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setCSSNoData(cssNoData).commit());
 	}
 	
 	/**
@@ -526,9 +979,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setHiddenFromSearch(boolean hiddenFromSearch) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setHiddenFromSearch(hiddenFromSearch).commit());
 	}
 	
 	/**
@@ -539,9 +990,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setViewersMustBeTeamMembers(boolean viewersMustBeTeamMembers) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setViewersMustBeTeamMembers(viewersMustBeTeamMembers).commit());
 	}
 	
 	/**
@@ -552,9 +1001,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String) 
 	 */
 	public void setAllowPageSubscribers(boolean allowPageSubscribers) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setAllowPageSubscribers(allowPageSubscribers).commit());
 	}
 	
 	/**
@@ -565,9 +1012,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setAllowIncidentSubscribers(boolean allowIncidentSubscribers) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setAllowIncidentSubscribers(allowIncidentSubscribers).commit());
 	}
 	
 	/**
@@ -578,9 +1023,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setAllowEmailSubscribers(boolean allowEmailSubscribers) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setAllowEmailSubscribers(allowEmailSubscribers).commit());
 	}
 	
 	/**
@@ -591,9 +1034,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setAllowSmsSubscribers(boolean allowSmsSubscribers) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setAllowSmsSubscribers(allowSmsSubscribers).commit());
 	}
 	
 	/**
@@ -604,9 +1045,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setAllowRssSubscribers(boolean allowRssSubscribers) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setAllowRssSubscribers(allowRssSubscribers).commit());
 	}
 	
 	/**
@@ -617,9 +1056,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setAllowWebhookSubscribers(boolean allowWebhookSubscribers) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setAllowWebhookSubscribers(allowWebhookSubscribers).commit());
 	}
 	
 	/**
@@ -630,9 +1067,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setNotificationsFromEmail(String notificationsFromEmail) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setNotificationsFromEmail(notificationsFromEmail).commit());
 	}
 	
 	/**
@@ -643,9 +1078,7 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setTimeZone(String timeZone) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setTimeZone(timeZone).commit());
 	}
 	
 	/**
@@ -656,14 +1089,13 @@ public class Page {
 	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
 	 */
 	public void setNotificationsEmailFooter(String notificationsEmailFooter) {
-		set(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
-				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
-				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter);
+		logFailure(edit().setNotificationsEmailFooter(notificationsEmailFooter).commit());
 	}
 	
 	/**
 	 * Modify the full page. If you need to change multiple values at the same time, it
 	 * is more efficient, to use this method instead of calling the methods for each property to change.
+	 * <br>To change only some values at once, use {@link #edit()}.
 	 * @param name the new name
 	 * @param domain the new domain
 	 * @param subdomain the new subdomain
@@ -726,50 +1158,478 @@ public class Page {
 			String cssYellows, String cssOranges, String cssReds, String cssBlues, String cssBorderColor, String cssGraphColor, String cssLinkColor, String cssNoData, boolean hiddenFromSearch,
 			boolean viewersMustBeTeamMembers, boolean allowPageSubscribers, boolean allowIncidentSubscribers, boolean allowEmailSubscribers, boolean allowSmsSubscribers, boolean allowRssSubscribers,
 			boolean allowWebhookSubscribers, String notificationsFromEmail, String timeZone, String notificationsEmailFooter) {
-		Route.CompiledRoute route = Route.Pages.UPDATE_FULL_PAGE.compile(id);
-		JSONObject payload = new JSONObject().put("page", new JSONObject().put("name", name).put("domain", domain).put("subdomain", subdomain)
-				.put("url", url).put("branding", branding).put("css_body_background_color", cssBodyBackgroundColor).put("css_font_color", cssFontColor)
-				.put("css_light_font_color", cssLightFontColor).put("css_greens", cssGreens).put("css_yellows", cssYellows).put("css_oranges", cssOranges)
-				.put("css_reds", cssReds).put("css_blues", cssBlues).put("css_border_color", cssBorderColor).put("css_graph_color", cssGraphColor)
-				.put("css_link_color", cssLinkColor).put("css_no_data", cssNoData).put("hidden_from_search", hiddenFromSearch).put("viewers_must_be_team_members", viewersMustBeTeamMembers)
-				.put("allow_page_subscribers", allowPageSubscribers).put("allow_incident_subscribers", allowIncidentSubscribers).put("allow_email_subscribers", allowEmailSubscribers)
-				.put("allow_sms_subscribers", allowSmsSubscribers).put("allow_rss_atom_feeds", allowRssSubscribers).put("allow_webhook_subscribers", allowWebhookSubscribers)
-				.put("notifications_from_email", notificationsFromEmail).put("time_zone", timeZone).put("notifications_email_footer", notificationsEmailFooter));
-		Request request = new Request(route, RequestBody.create(Request.MEDIA_TYPE_JSON, payload.toString()));
-		api.getRequester().queueAsync(request, r -> {
-			if(r.isSuccessful()) {
-				this.name = name;
-				this.branding = branding;
-				this.subdomain = subdomain;
-				this.domain = domain;
-				this.url = url;
-				this.hiddenFromSearch = hiddenFromSearch;
-				this.allowPageSubscribers = allowPageSubscribers;
-				this.allowIncidentSubscribers = allowIncidentSubscribers;
-				this.allowEmailSubscribers = allowEmailSubscribers;
-				this.allowSmsSubscribers = allowSmsSubscribers;
-				this.allowRssSubscribers = allowRssSubscribers;
-				this.allowWebhookSubscribers = allowWebhookSubscribers;
-				this.notificationsFromEmail = notificationsFromEmail;
-				this.notificationsEmailFooter = notificationsEmailFooter;
-				this.viewersMustBeTeamMembers = viewersMustBeTeamMembers;
-				this.timeZone = timeZone;
-				this.cssBodyBackgroundColor = cssBodyBackgroundColor;
-				this.cssFontColor = cssFontColor;
-				this.cssLightFontColor = cssLightFontColor;
-				this.cssGreens = cssGreens;
-				this.cssYellows = cssYellows;
-				this.cssOranges = cssOranges;
-				this.cssBlues = cssBlues;
-				this.cssReds = cssReds;
-				this.cssBorderColor = cssBorderColor;
-				this.cssGraphColor = cssGraphColor;
-				this.cssLinkColor = cssLinkColor;
-				this.cssNoData = cssNoData;
-			}
+		logFailure(setAsync(name, domain, subdomain, url, branding, cssBodyBackgroundColor, cssFontColor, cssLightFontColor, cssGreens, cssYellows, cssOranges, cssReds, cssBlues, cssBorderColor, cssGraphColor,
+				cssLinkColor, cssNoData, hiddenFromSearch, viewersMustBeTeamMembers, allowPageSubscribers, allowIncidentSubscribers, allowEmailSubscribers, allowSmsSubscribers, allowRssSubscribers,
+				allowWebhookSubscribers, notificationsFromEmail, timeZone, notificationsEmailFooter));
+	}
+	
+	/**
+	 * Modify the full page without blocking the calling thread.
+	 * <br>Only the values that differ from the current ones are sent, see {@link #edit()}.
+	 * @param name the new name
+	 * @param domain the new domain
+	 * @param subdomain the new subdomain
+	 * @param url the new url
+	 * @param branding the new branding
+	 * @param cssBodyBackgroundColor the new body background color
+	 * @param cssFontColor the new font color
+	 * @param cssLightFontColor the new light font color
+	 * @param cssGreens the new greens color
+	 * @param cssYellows the new yellows color
+	 * @param cssOranges the new oranges color
+	 * @param cssReds the new reds color
+	 * @param cssBlues the new blues color
+	 * @param cssBorderColor the new border color
+	 * @param cssGraphColor the new graph color
+	 * @param cssLinkColor the new link color
+	 * @param cssNoData the new no data
+	 * @param hiddenFromSearch a boolean that indicates the new value
+	 * @param viewersMustBeTeamMembers a boolean that indicates the new value
+	 * @param allowPageSubscribers a boolean that indicates the new value
+	 * @param allowIncidentSubscribers a boolean that indicates the new value
+	 * @param allowEmailSubscribers a boolean that indicates the new value
+	 * @param allowSmsSubscribers a boolean that indicates the new value
+	 * @param allowRssSubscribers a boolean that indicates the new value
+	 * @param allowWebhookSubscribers a boolean that indicates the new value
+	 * @param notificationsFromEmail a value I don't know what it does. If you know it, help is appreciated
+	 * @param timeZone the new time zone
+	 * @param notificationsEmailFooter the footer for the notification emails sent by this {@link Page}
+	 * @return a future that completes with this page, once the change has been applied
+	 * @since 1.1.0
+	 * @see #set(String, String, String, String, String, String, String, String, String, String, String, String, String, String, String, String, String,
+	 * boolean, boolean, boolean, boolean, boolean, boolean, boolean, boolean, String, String, String)
+	 */
+	public CompletableFuture<Page> setAsync(String name, String domain, String subdomain, String url, String branding, String cssBodyBackgroundColor, String cssFontColor, String cssLightFontColor, String cssGreens,
+			String cssYellows, String cssOranges, String cssReds, String cssBlues, String cssBorderColor, String cssGraphColor, String cssLinkColor, String cssNoData, boolean hiddenFromSearch,
+			boolean viewersMustBeTeamMembers, boolean allowPageSubscribers, boolean allowIncidentSubscribers, boolean allowEmailSubscribers, boolean allowSmsSubscribers, boolean allowRssSubscribers,
+			boolean allowWebhookSubscribers, String notificationsFromEmail, String timeZone, String notificationsEmailFooter) {
+		return edit()
+				.setName(name)
+				.setDomain(domain)
+				.setSubdomain(subdomain)
+				.setUrl(url)
+				.setBranding(branding)
+				.setCSSBodyBackgroundColor(cssBodyBackgroundColor)
+				.setCSSFontColor(cssFontColor)
+				.setCSSLightFontColor(cssLightFontColor)
+				.setCSSGreens(cssGreens)
+				.setCSSYellows(cssYellows)
+				.setCSSOranges(cssOranges)
+				.setCSSReds(cssReds)
+				.setCSSBlues(cssBlues)
+				.setCSSBorderColor(cssBorderColor)
+				.setCSSGraphColor(cssGraphColor)
+				.setCSSLinkColor(cssLinkColor)
+				.setCSSNoData(cssNoData)
+				.setHiddenFromSearch(hiddenFromSearch)
+				.setViewersMustBeTeamMembers(viewersMustBeTeamMembers)
+				.setAllowPageSubscribers(allowPageSubscribers)
+				.setAllowIncidentSubscribers(allowIncidentSubscribers)
+				.setAllowEmailSubscribers(allowEmailSubscribers)
+				.setAllowSmsSubscribers(allowSmsSubscribers)
+				.setAllowRssSubscribers(allowRssSubscribers)
+				.setAllowWebhookSubscribers(allowWebhookSubscribers)
+				.setNotificationsFromEmail(notificationsFromEmail)
+				.setTimeZone(timeZone)
+				.setNotificationsEmailFooter(notificationsEmailFooter)
+				.commit();
+	}
+	
+	/**
+	 * Starts an edit of this page. The changes are collected and sent as one request on {@link Edit#commit()}:
+	 * <pre>{@code
+	 * page.edit()
+	 * 	.setCSSGreens("#2fcc66")
+	 * 	.setCSSReds("#e74c3c")
+	 * 	.setBranding("premium")
+	 * 	.commit();
+	 * }</pre>
+	 * @return the edit
+	 * @since 1.1.0
+	 */
+	public Edit edit() {
+		return new Edit();
+	}
+	
+	private static void logFailure(CompletableFuture<?> future) {
+		future.exceptionally(t -> {
+			t.printStackTrace();
+			return null;
 		});
 	}
 	
+	/**
+	 * Collects changes of a {@link Page} and sends them as one partial update.
+	 * <br>Only values that differ from the current ones, including edits that have been committed but not been confirmed yet,
+	 * are sent, so concurrent edits of other values are not overwritten. The values are compared on {@link #commit()}.
+	 * The page itself is changed once, after the api accepted the update.
+	 *
+	 * @since 1.1.0
+	 * @see Page#edit()
+	 */
+	public class Edit {
+		
+		private final Map<ByteString, Change> changes = new LinkedHashMap<>();
+		
+		private Edit() {
+		}
+		
+		private Edit change(ByteString field, Object value, Supplier<Object> current, Runnable apply) {
+			changes.put(field, new Change(value, current, apply));
+			return this;
+		}
+
+		/**
+		 * Changes the value of {@link Page#setName(String)}
+		 * @param name the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setName(String name) {
+			return change(FIELD_NAME, name, () -> Page.this.name, () -> Page.this.name = name);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setDomain(String)}
+		 * @param domain the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setDomain(String domain) {
+			return change(FIELD_DOMAIN, domain, () -> Page.this.domain, () -> Page.this.domain = domain);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setSubdomain(String)}
+		 * @param subdomain the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setSubdomain(String subdomain) {
+			return change(FIELD_SUBDOMAIN, subdomain, () -> Page.this.subdomain, () -> Page.this.subdomain = subdomain);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setUrl(String)}
+		 * @param url the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setUrl(String url) {
+			return change(FIELD_URL, url, () -> Page.this.url, () -> Page.this.url = url);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setBranding(String)}
+		 * @param branding the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setBranding(String branding) {
+			return change(FIELD_BRANDING, branding, () -> Page.this.branding, () -> Page.this.branding = branding);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSBodyBackgroundColor(String)}
+		 * @param cssBodyBackgroundColor the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSBodyBackgroundColor(String cssBodyBackgroundColor) {
+			return change(FIELD_CSS_BODY_BACKGROUND_COLOR, cssBodyBackgroundColor, () -> Page.this.cssBodyBackgroundColor, () -> Page.this.cssBodyBackgroundColor = cssBodyBackgroundColor);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSFontColor(String)}
+		 * @param cssFontColor the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSFontColor(String cssFontColor) {
+			return change(FIELD_CSS_FONT_COLOR, cssFontColor, () -> Page.this.cssFontColor, () -> Page.this.cssFontColor = cssFontColor);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSLightFontColor(String)}
+		 * @param cssLightFontColor the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSLightFontColor(String cssLightFontColor) {
+			return change(FIELD_CSS_LIGHT_FONT_COLOR, cssLightFontColor, () -> Page.this.cssLightFontColor, () -> Page.this.cssLightFontColor = cssLightFontColor);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSGreens(String)}
+		 * @param cssGreens the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSGreens(String cssGreens) {
+			return change(FIELD_CSS_GREENS, cssGreens, () -> Page.this.cssGreens, () -> Page.this.cssGreens = cssGreens);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSYellows(String)}
+		 * @param cssYellows the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSYellows(String cssYellows) {
+			return change(FIELD_CSS_YELLOWS, cssYellows, () -> Page.this.cssYellows, () -> Page.this.cssYellows = cssYellows);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSOranges(String)}
+		 * @param cssOranges the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSOranges(String cssOranges) {
+			return change(FIELD_CSS_ORANGES, cssOranges, () -> Page.this.cssOranges, () -> Page.this.cssOranges = cssOranges);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSReds(String)}
+		 * @param cssReds the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSReds(String cssReds) {
+			return change(FIELD_CSS_REDS, cssReds, () -> Page.this.cssReds, () -> Page.this.cssReds = cssReds);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSBlues(String)}
+		 * @param cssBlues the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSBlues(String cssBlues) {
+			return change(FIELD_CSS_BLUES, cssBlues, () -> Page.this.cssBlues, () -> Page.this.cssBlues = cssBlues);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSBorderColor(String)}
+		 * @param cssBorderColor the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSBorderColor(String cssBorderColor) {
+			return change(FIELD_CSS_BORDER_COLOR, cssBorderColor, () -> Page.this.cssBorderColor, () -> Page.this.cssBorderColor = cssBorderColor);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSGraphColor(String)}
+		 * @param cssGraphColor the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSGraphColor(String cssGraphColor) {
+			return change(FIELD_CSS_GRAPH_COLOR, cssGraphColor, () -> Page.this.cssGraphColor, () -> Page.this.cssGraphColor = cssGraphColor);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSLinkColor(String)}
+		 * @param cssLinkColor the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSLinkColor(String cssLinkColor) {
+			return change(FIELD_CSS_LINK_COLOR, cssLinkColor, () -> Page.this.cssLinkColor, () -> Page.this.cssLinkColor = cssLinkColor);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setCSSNoData(String)}
+		 * @param cssNoData the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setCSSNoData(String cssNoData) {
+			return change(FIELD_CSS_NO_DATA, cssNoData, () -> Page.this.cssNoData, () -> Page.this.cssNoData = cssNoData);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setHiddenFromSearch(boolean)}
+		 * @param hiddenFromSearch the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setHiddenFromSearch(boolean hiddenFromSearch) {
+			return change(FIELD_HIDDEN_FROM_SEARCH, hiddenFromSearch, () -> Page.this.hiddenFromSearch, () -> Page.this.hiddenFromSearch = hiddenFromSearch);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setViewersMustBeTeamMembers(boolean)}
+		 * @param viewersMustBeTeamMembers the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setViewersMustBeTeamMembers(boolean viewersMustBeTeamMembers) {
+			return change(FIELD_VIEWERS_MUST_BE_TEAM_MEMBERS, viewersMustBeTeamMembers, () -> Page.this.viewersMustBeTeamMembers, () -> Page.this.viewersMustBeTeamMembers = viewersMustBeTeamMembers);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setAllowPageSubscribers(boolean)}
+		 * @param allowPageSubscribers the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setAllowPageSubscribers(boolean allowPageSubscribers) {
+			return change(FIELD_ALLOW_PAGE_SUBSCRIBERS, allowPageSubscribers, () -> Page.this.allowPageSubscribers, () -> Page.this.allowPageSubscribers = allowPageSubscribers);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setAllowIncidentSubscribers(boolean)}
+		 * @param allowIncidentSubscribers the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setAllowIncidentSubscribers(boolean allowIncidentSubscribers) {
+			return change(FIELD_ALLOW_INCIDENT_SUBSCRIBERS, allowIncidentSubscribers, () -> Page.this.allowIncidentSubscribers, () -> Page.this.allowIncidentSubscribers = allowIncidentSubscribers);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setAllowEmailSubscribers(boolean)}
+		 * @param allowEmailSubscribers the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setAllowEmailSubscribers(boolean allowEmailSubscribers) {
+			return change(FIELD_ALLOW_EMAIL_SUBSCRIBERS, allowEmailSubscribers, () -> Page.this.allowEmailSubscribers, () -> Page.this.allowEmailSubscribers = allowEmailSubscribers);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setAllowSmsSubscribers(boolean)}
+		 * @param allowSmsSubscribers the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setAllowSmsSubscribers(boolean allowSmsSubscribers) {
+			return change(FIELD_ALLOW_SMS_SUBSCRIBERS, allowSmsSubscribers, () -> Page.this.allowSmsSubscribers, () -> Page.this.allowSmsSubscribers = allowSmsSubscribers);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setAllowRssSubscribers(boolean)}
+		 * @param allowRssSubscribers the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setAllowRssSubscribers(boolean allowRssSubscribers) {
+			return change(FIELD_ALLOW_RSS_ATOM_FEEDS, allowRssSubscribers, () -> Page.this.allowRssSubscribers, () -> Page.this.allowRssSubscribers = allowRssSubscribers);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setAllowWebhookSubscribers(boolean)}
+		 * @param allowWebhookSubscribers the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setAllowWebhookSubscribers(boolean allowWebhookSubscribers) {
+			return change(FIELD_ALLOW_WEBHOOK_SUBSCRIBERS, allowWebhookSubscribers, () -> Page.this.allowWebhookSubscribers, () -> Page.this.allowWebhookSubscribers = allowWebhookSubscribers);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setNotificationsFromEmail(String)}
+		 * @param notificationsFromEmail the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setNotificationsFromEmail(String notificationsFromEmail) {
+			return change(FIELD_NOTIFICATIONS_FROM_EMAIL, notificationsFromEmail, () -> Page.this.notificationsFromEmail, () -> Page.this.notificationsFromEmail = notificationsFromEmail);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setTimeZone(String)}
+		 * @param timeZone the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setTimeZone(String timeZone) {
+			return change(FIELD_TIME_ZONE, timeZone, () -> Page.this.timeZone, () -> Page.this.timeZone = timeZone);
+		}
+
+		/**
+		 * Changes the value of {@link Page#setNotificationsEmailFooter(String)}
+		 * @param notificationsEmailFooter the new value
+		 * @return this edit, for chaining
+		 * @since 1.1.0
+		 */
+		public Edit setNotificationsEmailFooter(String notificationsEmailFooter) {
+			return change(FIELD_NOTIFICATIONS_EMAIL_FOOTER, notificationsEmailFooter, () -> Page.this.notificationsEmailFooter, () -> Page.this.notificationsEmailFooter = notificationsEmailFooter);
+		}
+
+		/**
+		 * Sends the collected changes as one request. If nothing has been changed, no request is sent.
+		 * <br>The edit can be reused afterwards, later commits send the values again, if they differ from the current ones.
+		 * @return a future that completes with the page, once the changes have been applied
+		 * @since 1.1.0
+		 */
+		public CompletableFuture<Page> commit() {
+			PatchBody patch = new PatchBody(FIELD_PAGE);
+			Map<ByteString, Long> versions = new HashMap<>();
+			// the changes of this commit, so changing the edit afterwards does not affect what is applied
+			Map<ByteString, Runnable> apply = new HashMap<>();
+			synchronized(Page.this) {
+				// compared with the pending values, so an edit reverting a queued one is still sent and merged into it
+				changes.forEach((field, change) -> {
+					if(Objects.equals(change.value, pending.get(field, change.current.get()))) {
+						return;
+					}
+					if(change.value instanceof Boolean) {
+						patch.set(field, (boolean) change.value);
+					} else {
+						patch.set(field, (String) change.value);
+					}
+					versions.put(field, pending.change(field, change.value));
+					apply.put(field, change.apply);
+				});
+			}
+			if(patch.isEmpty()) {
+				return CompletableFuture.completedFuture(Page.this);
+			}
+			Route.CompiledRoute route = Route.Pages.UPDATE_PAGE.compile(id);
+			// every field is set to an absolute value, so sending the patch twice is harmless
+			Request request = new Request(route, patch).setRetryable(true);
+			return api.getRequester().submit(request).handle((r, t) -> {
+				boolean accepted = t == null && r.isSuccessful();
+				// only the newest accepted value of a field is applied, so responses completing out of order cannot revert it
+				synchronized(Page.this) {
+					versions.forEach((field, version) -> {
+						if(!accepted) {
+							pending.release(field, version);
+						} else if(pending.confirm(field, version)) {
+							apply.get(field).run();
+						}
+					});
+				}
+				if(t != null) {
+					throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+				}
+				if(!accepted) {
+					throw new IllegalStateException("Could not update "+Page.this+", the api responded with "+r.code());
+				}
+				api.getCache().invalidate(EntityCache.Type.PAGE, id);
+				return Page.this;
+			});
+		}
+	}
+	
+	/**
+	 * A value set in an {@link Edit}, with the current value of the page and how to apply it
+	 */
+	private static class Change {
+		private final Object value;
+		private final Supplier<Object> current;
+		private final Runnable apply;
+		
+		private Change(Object value, Supplier<Object> current, Runnable apply) {
+			this.value = value;
+			this.current = current;
+			this.apply = apply;
+		}
+	}
+	
 	// Getters
 	
 	/**
@@ -1212,6 +2072,49 @@ public class Page {
 			String normalUrl = json.get("normal_url") instanceof String ? json.getString("normal_url") : null;
 			return new HeroCover(updatedAt, size, originalUrl, retinaUrl, normalUrl);
 		}
+		
+		/**
+		 * Reads the logo directly from the response, or null if the value is not an object
+		 * @param reader the reader, positioned in front of the value
+		 * @return the logo
+		 * @throws IOException if the response could not be read
+		 * @since 1.1.0
+		 */
+		public static HeroCover read(JsonReader reader) throws IOException {
+			if(reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+				reader.skipValue();
+				return null;
+			}
+			OffsetDateTime updatedAt = null;
+			Integer size = null;
+			String originalUrl = null;
+			String retinaUrl = null;
+			String normalUrl = null;
+			reader.beginObject();
+			while(reader.hasNext()) {
+				switch(reader.nextName()) {
+					case "updated_at":
+						updatedAt = reader.nextDateTimeOrNull();
+						break;
+					case "size":
+						size = reader.nextIntOrNull();
+						break;
+					case "original_url":
+						originalUrl = reader.nextStringOrNull();
+						break;
+					case "retina_url":
+						retinaUrl = reader.nextStringOrNull();
+						break;
+					case "normal_url":
+						normalUrl = reader.nextStringOrNull();
+						break;
+					default:
+						reader.skipValue();
+				}
+			}
+			reader.endObject();
+			return new HeroCover(updatedAt, size, originalUrl, retinaUrl, normalUrl);
+		}
 	}
 	
 	public static class TransactionalLogo {
@@ -1237,6 +2140,49 @@ public class Page {
 			String normalUrl = json.get("normal_url") instanceof String ? json.getString("normal_url") : null;
 			return new TransactionalLogo(updatedAt, size, originalUrl, retinaUrl, normalUrl);
 		}
+		
+		/**
+		 * Reads the logo directly from the response, or null if the value is not an object
+		 * @param reader the reader, positioned in front of the value
+		 * @return the logo
+		 * @throws IOException if the response could not be read
+		 * @since 1.1.0
+		 */
+		public static TransactionalLogo read(JsonReader reader) throws IOException {
+			if(reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+				reader.skipValue();
+				return null;
+			}
+			OffsetDateTime updatedAt = null;
+			Integer size = null;
+			String originalUrl = null;
+			String retinaUrl = null;
+			String normalUrl = null;
+			reader.beginObject();
+			while(reader.hasNext()) {
+				switch(reader.nextName()) {
+					case "updated_at":
+						updatedAt = reader.nextDateTimeOrNull();
+						break;
+					case "size":
+						size = reader.nextIntOrNull();
+						break;
+					case "original_url":
+						originalUrl = reader.nextStringOrNull();
+						break;
+					case "retina_url":
+						retinaUrl = reader.nextStringOrNull();
+						break;
+					case "normal_url":
+						normalUrl = reader.nextStringOrNull();
+						break;
+					default:
+						reader.skipValue();
+				}
+			}
+			reader.endObject();
+			return new TransactionalLogo(updatedAt, size, originalUrl, retinaUrl, normalUrl);
+		}
 	}
 	
 	public static class FaviconLogo {
@@ -1256,6 +2202,41 @@ public class Page {
 			String url = json.get("url") instanceof String ? json.getString("url") : null;
 			return new FaviconLogo(updatedAt, size, url);
 		}
+		
+		/**
+		 * Reads the logo directly from the response, or null if the value is not an object
+		 * @param reader the reader, positioned in front of the value
+		 * @return the logo
+		 * @throws IOException if the response could not be read
+		 * @since 1.1.0
+		 */
+		public static FaviconLogo read(JsonReader reader) throws IOException {
+			if(reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+				reader.skipValue();
+				return null;
+			}
+			OffsetDateTime updatedAt = null;
+			Integer size = null;
+			String url = null;
+			reader.beginObject();
+			while(reader.hasNext()) {
+				switch(reader.nextName()) {
+					case "updated_at":
+						updatedAt = reader.nextDateTimeOrNull();
+						break;
+					case "size":
+						size = reader.nextIntOrNull();
+						break;
+					case "url":
+						url = reader.nextStringOrNull();
+						break;
+					default:
+						reader.skipValue();
+				}
+			}
+			reader.endObject();
+			return new FaviconLogo(updatedAt, size, url);
+		}
 	}
 	
 	public static class TwitterLogo {
@@ -1275,6 +2256,41 @@ public class Page {
 			String url = json.get("url") instanceof String ? json.getString("url") : null;
 			return new TwitterLogo(updatedAt, size, url);
 		}
+		
+		/**
+		 * Reads the logo directly from the response, or null if the value is not an object
+		 * @param reader the reader, positioned in front of the value
+		 * @return the logo
+		 * @throws IOException if the response could not be read
+		 * @since 1.1.0
+		 */
+		public static TwitterLogo read(JsonReader reader) throws IOException {
+			if(reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+				reader.skipValue();
+				return null;
+			}
+			OffsetDateTime updatedAt = null;
+			Integer size = null;
+			String url = null;
+			reader.beginObject();
+			while(reader.hasNext()) {
+				switch(reader.nextName()) {
+					case "updated_at":
+						updatedAt = reader.nextDateTimeOrNull();
+						break;
+					case "size":
+						size = reader.nextIntOrNull();
+						break;
+					case "url":
+						url = reader.nextStringOrNull();
+						break;
+					default:
+						reader.skipValue();
+				}
+			}
+			reader.endObject();
+			return new TwitterLogo(updatedAt, size, url);
+		}
 	}
 	
 	public static class EmailLogo {
@@ -1300,6 +2316,49 @@ public class Page {
 			String normalUrl = json.get("normal_url") instanceof String ? json.getString("normal_url") : null;
 			return new EmailLogo(updatedAt, size, originalUrl, retinaUrl, normalUrl);
 		}
+		
+		/**
+		 * Reads the logo directly from the response, or null if the value is not an object
+		 * @param reader the reader, positioned in front of the value
+		 * @return the logo
+		 * @throws IOException if the response could not be read
+		 * @since 1.1.0
+		 */
+		public static EmailLogo read(JsonReader reader) throws IOException {
+			if(reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+				reader.skipValue();
+				return null;
+			}
+			OffsetDateTime updatedAt = null;
+			Integer size = null;
+			String originalUrl = null;
+			String retinaUrl = null;
+			String normalUrl = null;
+			reader.beginObject();
+			while(reader.hasNext()) {
+				switch(reader.nextName()) {
+					case "updated_at":
+						updatedAt = reader.nextDateTimeOrNull();
+						break;
+					case "size":
+						size = reader.nextIntOrNull();
+						break;
+					case "original_url":
+						originalUrl = reader.nextStringOrNull();
+						break;
+					case "retina_url":
+						retinaUrl = reader.nextStringOrNull();
+						break;
+					case "normal_url":
+						normalUrl = reader.nextStringOrNull();
+						break;
+					default:
+						reader.skipValue();
+				}
+			}
+			reader.endObject();
+			return new EmailLogo(updatedAt, size, originalUrl, retinaUrl, normalUrl);
+		}
 	}
 	
 	@Override
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.entities;
+
+import okio.ByteString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks the changes of an entity that have been sent to the api, but not been confirmed yet.
+ * <br>New changes are compared with the pending value of a field, if there is one, instead of the confirmed value.
+ * So reverting a field while the previous change is still queued is sent as well.
+ * <br>Every change gets a version and only the newest confirmed version of a field is applied to the entity,
+ * no matter in which order the responses arrive.
+ * <br>This class is not thread safe, every call has to hold the lock of the entity.
+ */
+class PendingFields {
+
+	private final Map<ByteString, Object> values = new HashMap<>();
+	private final Map<ByteString, Long> pendingVersions = new HashMap<>();
+	private final Map<ByteString, Long> appliedVersions = new HashMap<>();
+	private long version;
+
+	/**
+	 * Gets the value a field will have, once every pending change has been applied
+	 * @param field the field
+	 * @param confirmed the confirmed value of the field
+	 * @return the value of the newest pending change, or the confirmed value
+	 */
+	Object get(ByteString field, Object confirmed) {
+		return values.containsKey(field) ? values.get(field) : confirmed;
+	}
+
+	/**
+	 * Records a change that is about to be sent
+	 * @param field the field
+	 * @param value the new value
+	 * @return the version of the change
+	 */
+	long change(ByteString field, Object value) {
+		values.put(field, value);
+		pendingVersions.put(field, ++version);
+		return version;
+	}
+
+	/**
+	 * Marks a change as accepted by the api
+	 * @param field the field
+	 * @param version the version of the change
+	 * @return true, if the value should be applied, false if a newer change of the field has been applied already
+	 */
+	boolean confirm(ByteString field, long version) {
+		release(field, version);
+		Long applied = appliedVersions.get(field);
+		if(applied != null && applied > version) {
+			return false;
+		}
+		appliedVersions.put(field, version);
+		return true;
+	}
+
+	/**
+	 * Removes a change, that failed or has been confirmed, unless a newer change of the field is pending
+	 * @param field the field
+	 * @param version the version of the change
+	 */
+	void release(ByteString field, long version) {
+		Long pending = pendingVersions.get(field);
+		if(pending != null && pending == version) {
+			pendingVersions.remove(field);
+			values.remove(field);
+		}
+	}
+}
@@ -24,8 +24,10 @@ public enum Status {
 	MAJOR_OUTAGE,
 	UNDER_MAINTENANCE;
 	
+	private final String value = name().toLowerCase();
+	
 	@Override
 	public String toString() {
-		return name().toLowerCase();
+		return value;
 	}
 }
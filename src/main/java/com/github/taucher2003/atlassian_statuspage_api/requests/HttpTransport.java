@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import com.squareup.okhttp.RequestBody;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * The http client used by the {@link Requester} to send its requests.
+ * <br>Implement this interface to use your own, tuned client. The library ships with
+ * {@link OkHttpTransport}, which is used by default, and {@link JdkHttpTransport}, which supports HTTP/2.
+ * <p>Implementations must be thread safe, as requests on different entities may be sent in parallel.
+ *
+ * @since 1.1.0
+ * @see com.github.taucher2003.atlassian_statuspage_api.StatuspageAPI#StatuspageAPI(String, HttpTransport)
+ */
+public interface HttpTransport {
+
+	/**
+	 * Sends a request and returns as soon as the status and headers of the response are available.
+	 * The body of the response is streamed and has to be closed by the caller.
+	 * @param method the http method, e.g. {@code GET}
+	 * @param url the full url
+	 * @param headers the headers to send
+	 * @param body the body to send, or {@code null} if the method does not permit a body
+	 * @return the response
+	 * @throws IOException if the request could not be sent or the response could not be read
+	 * @since 1.1.0
+	 */
+	TransportResponse execute(String method, String url, Map<String, String> headers, RequestBody body) throws IOException;
+}
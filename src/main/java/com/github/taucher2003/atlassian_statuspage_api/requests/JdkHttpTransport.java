@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import com.squareup.okhttp.RequestBody;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * A {@link HttpTransport} using the {@link HttpClient} of the JDK.
+ * <br>The default client negotiates HTTP/2, so parallel requests (see {@link Requester#setMaxConcurrency(int)})
+ * are multiplexed over a single connection.
+ *
+ * @since 1.1.0
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+	private final HttpClient client;
+
+	/**
+	 * Creates a transport with a new client preferring HTTP/2
+	 * @since 1.1.0
+	 */
+	public JdkHttpTransport() {
+		this(HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build());
+	}
+
+	/**
+	 * Creates a transport sharing the given client
+	 * @param client the client to use
+	 * @since 1.1.0
+	 */
+	public JdkHttpTransport(HttpClient client) {
+		this.client = client;
+	}
+
+	public HttpClient getClient() {
+		return client;
+	}
+
+	@Override
+	public TransportResponse execute(String method, String url, Map<String, String> headers, RequestBody body) throws IOException {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url));
+		headers.forEach(builder::header);
+		if(body == null) {
+			builder.method(method, HttpRequest.BodyPublishers.noBody());
+		} else {
+			if(body.contentType() != null) {
+				builder.header("Content-Type", body.contentType().toString());
+			}
+			Buffer buffer = new Buffer();
+			body.writeTo(buffer);
+			builder.method(method, HttpRequest.BodyPublishers.ofByteArray(buffer.readByteArray()));
+		}
+		try {
+			HttpResponse<InputStream> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+			String protocol = response.version() == HttpClient.Version.HTTP_2 ? "h2" : "http/1.1";
+			return new TransportResponse(response.statusCode(), protocol, response.headers().map(), response.body());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for "+method+" "+url);
+		}
+	}
+}
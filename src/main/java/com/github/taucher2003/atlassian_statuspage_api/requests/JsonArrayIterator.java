@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import com.squareup.okhttp.Response;
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes a JSON array from a {@link Request#setStreaming(boolean) streaming} response one element at a time.
+ * <br>Only the element that is currently decoded is held in memory, so the memory usage does not grow
+ * with the length of the array and the first elements are available before the whole body has been received.
+ * <br>The body of the response is closed once the end of the array has been reached, an error occurred
+ * or {@link #close()} has been called.
+ *
+ * @param <T> the type of the decoded elements
+ * @since 1.1.0
+ */
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+	private final Response response;
+	private final JsonReader reader;
+	private final JsonDecoder<T> decoder;
+	private T next;
+	private boolean done;
+
+	/**
+	 * Creates an iterator over the elements of the body of the given response
+	 * @param response the streaming response containing a JSON array
+	 * @param decoder the decoder creating an element from its JSON object
+	 * @throws IOException if the body could not be read
+	 * @throws JSONException if the body does not start with a JSON array
+	 * @since 1.1.0
+	 */
+	public JsonArrayIterator(Response response, JsonDecoder<T> decoder) throws IOException {
+		this.response = response;
+		this.decoder = decoder;
+		this.reader = new JsonReader(response.body().source());
+		try {
+			reader.beginArray();
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		try {
+			while(next == null && !done) {
+				if(!reader.hasNext()) {
+					reader.endArray();
+					done = true;
+					close();
+				} else if(reader.peek() == JsonReader.Token.BEGIN_OBJECT) {
+					next = decoder.decode(reader);
+				} else {
+					System.err.println(reader.peek()+" was not an JSONObject");
+					reader.skipValue();
+				}
+			}
+		} catch (IOException e) {
+			close();
+			throw new UncheckedIOException(e);
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+		return next != null;
+	}
+
+	@Override
+	public T next() {
+		if(!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		T element = next;
+		next = null;
+		return element;
+	}
+
+	/**
+	 * Creates a sequential {@link Stream} over the remaining elements.
+	 * <br>Closing the stream closes this iterator, so use it in a try-with-resources block, if the stream
+	 * might not be consumed to its end.
+	 * @return the stream
+	 * @since 1.1.0
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(this::close);
+	}
+
+	/**
+	 * Closes the body of the response. Remaining elements are skipped
+	 * @since 1.1.0
+	 */
+	@Override
+	public void close() {
+		done = true;
+		try {
+			response.body().close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
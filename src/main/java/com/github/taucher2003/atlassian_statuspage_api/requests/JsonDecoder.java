@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import java.io.IOException;
+
+/**
+ * Decodes an entity from a {@link JsonReader}
+ *
+ * @param <T> the type of the entity
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface JsonDecoder<T> {
+
+	/**
+	 * Reads the next value of the reader
+	 * @param reader the reader, positioned in front of the value
+	 * @return the decoded entity
+	 * @throws IOException if the source could not be read
+	 * @since 1.1.0
+	 */
+	T decode(JsonReader reader) throws IOException;
+}
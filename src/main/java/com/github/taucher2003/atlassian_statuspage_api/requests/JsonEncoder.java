@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import java.io.IOException;
+
+/**
+ * Writes a payload to a {@link JsonWriter}
+ *
+ * @since 1.1.0
+ * @see Request#jsonBody(JsonEncoder)
+ */
+@FunctionalInterface
+public interface JsonEncoder {
+
+	/**
+	 * Writes the payload
+	 * @param writer the writer
+	 * @throws IOException if the sink could not be written
+	 * @since 1.1.0
+	 */
+	void encode(JsonWriter writer) throws IOException;
+}
@@ -0,0 +1,491 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+
+/**
+ * A pull parser reading JSON tokens directly from the bytes of a response body.
+ * <br>In contrast to {@link org.json.JSONObject}, no tree of the whole document is built, so the entities can be
+ * decoded field by field while the body is received. Malformed documents cause a {@link JSONException}.
+ * <pre>{@code
+ * reader.beginObject();
+ * while(reader.hasNext()) {
+ * 	switch(reader.nextName()) {
+ * 		case "id":
+ * 			id = reader.nextStringOrNull();
+ * 			break;
+ * 		default:
+ * 			reader.skipValue();
+ * 	}
+ * }
+ * reader.endObject();
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public class JsonReader implements Closeable {
+
+	/**
+	 * The type of the next token of a {@link JsonReader}
+	 *
+	 * @since 1.1.0
+	 */
+	public enum Token {
+		BEGIN_ARRAY,
+		END_ARRAY,
+		BEGIN_OBJECT,
+		END_OBJECT,
+		NAME,
+		STRING,
+		NUMBER,
+		BOOLEAN,
+		NULL,
+		END_DOCUMENT
+	}
+
+	private static final ByteString STRING_SPECIALS = ByteString.encodeUtf8("\"\\");
+
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_ARRAY = 2;
+	private static final int NONEMPTY_ARRAY = 3;
+	private static final int ARRAY_VALUE = 4;
+	private static final int EMPTY_OBJECT = 5;
+	private static final int NONEMPTY_OBJECT = 6;
+	private static final int OBJECT_NAME = 7;
+	private static final int DANGLING_NAME = 8;
+
+	private final BufferedSource source;
+	private final Buffer buffer;
+	private int[] stack = new int[16];
+	private int stackSize = 1;
+
+	/**
+	 * Creates a reader for the given source
+	 * @param source the source, e.g. {@link com.squareup.okhttp.ResponseBody#source()}
+	 * @since 1.1.0
+	 */
+	public JsonReader(BufferedSource source) {
+		this.source = source;
+		this.buffer = source.buffer();
+		stack[0] = EMPTY_DOCUMENT;
+	}
+
+	public void beginObject() throws IOException {
+		beforeValue();
+		expect('{');
+		push(EMPTY_OBJECT);
+	}
+
+	public void endObject() throws IOException {
+		prepare();
+		if(top() != EMPTY_OBJECT && top() != NONEMPTY_OBJECT) {
+			throw syntaxError("Expected the end of an object");
+		}
+		expect('}');
+		stackSize--;
+	}
+
+	public void beginArray() throws IOException {
+		beforeValue();
+		expect('[');
+		push(EMPTY_ARRAY);
+	}
+
+	public void endArray() throws IOException {
+		prepare();
+		if(top() != EMPTY_ARRAY && top() != NONEMPTY_ARRAY) {
+			throw syntaxError("Expected the end of an array");
+		}
+		expect(']');
+		stackSize--;
+	}
+
+	/**
+	 * Checks if the current array or object has another element
+	 * @return true, if the next token is not the end of the array or object
+	 * @throws IOException if the source could not be read
+	 * @since 1.1.0
+	 */
+	public boolean hasNext() throws IOException {
+		prepare();
+		int next = peekByte();
+		return next != '}' && next != ']' && next != -1;
+	}
+
+	/**
+	 * Gets the type of the next token without consuming it
+	 * @return the type of the next token
+	 * @throws IOException if the source could not be read
+	 * @since 1.1.0
+	 */
+	public Token peek() throws IOException {
+		prepare();
+		int next = peekByte();
+		switch(next) {
+			case -1:
+				return Token.END_DOCUMENT;
+			case '{':
+				return Token.BEGIN_OBJECT;
+			case '}':
+				return Token.END_OBJECT;
+			case '[':
+				return Token.BEGIN_ARRAY;
+			case ']':
+				return Token.END_ARRAY;
+			case '"':
+				return top() == EMPTY_OBJECT || top() == OBJECT_NAME ? Token.NAME : Token.STRING;
+			case 't':
+			case 'f':
+				return Token.BOOLEAN;
+			case 'n':
+				return Token.NULL;
+			default:
+				if(next == '-' || (next >= '0' && next <= '9')) {
+					return Token.NUMBER;
+				}
+				throw syntaxError("Unexpected character '"+(char) next+"'");
+		}
+	}
+
+	public String nextName() throws IOException {
+		prepare();
+		if(top() != EMPTY_OBJECT && top() != OBJECT_NAME) {
+			throw syntaxError("Expected a name");
+		}
+		expect('"');
+		String name = readString();
+		expect(':');
+		stack[stackSize - 1] = DANGLING_NAME;
+		return name;
+	}
+
+	public String nextString() throws IOException {
+		beforeValue();
+		expect('"');
+		return readString();
+	}
+
+	/**
+	 * Reads the next value, if it is a string. Other values are skipped
+	 * @return the string, or null if the value was no string
+	 * @throws IOException if the source could not be read
+	 * @since 1.1.0
+	 */
+	public String nextStringOrNull() throws IOException {
+		if(peek() != Token.STRING) {
+			skipValue();
+			return null;
+		}
+		return nextString();
+	}
+
+	/**
+	 * Reads the next value as ISO-8601 date time, if it is a string. Other values are skipped
+	 * @return the date time, or null if the value was no string
+	 * @throws IOException if the source could not be read
+	 * @since 1.1.0
+	 */
+	public OffsetDateTime nextDateTimeOrNull() throws IOException {
+		String value = nextStringOrNull();
+		return value == null ? null : OffsetDateTime.parse(value);
+	}
+
+	public boolean nextBoolean() throws IOException {
+		beforeValue();
+		if(peekByte() == 't') {
+			expectLiteral("true");
+			return true;
+		}
+		expectLiteral("false");
+		return false;
+	}
+
+	/**
+	 * Reads the next value, if it is a boolean. Other values are skipped
+	 * @param defaultValue the value returned, if the value was no boolean
+	 * @return the boolean
+	 * @throws IOException if the source could not be read
+	 * @since 1.1.0
+	 */
+	public boolean nextBoolean(boolean defaultValue) throws IOException {
+		if(peek() != Token.BOOLEAN) {
+			skipValue();
+			return defaultValue;
+		}
+		return nextBoolean();
+	}
+
+	public void nextNull() throws IOException {
+		beforeValue();
+		expectLiteral("null");
+	}
+
+	public long nextLong() throws IOException {
+		String number = nextNumber();
+		try {
+			return Long.parseLong(number);
+		} catch (NumberFormatException e) {
+			return (long) Double.parseDouble(number);
+		}
+	}
+
+	public int nextInt() throws IOException {
+		return (int) nextLong();
+	}
+
+	public double nextDouble() throws IOException {
+		return Double.parseDouble(nextNumber());
+	}
+
+	/**
+	 * Reads the next value, if it is a number. Other values are skipped
+	 * @return the number as integer, or null if the value was no number
+	 * @throws IOException if the source could not be read
+	 * @since 1.1.0
+	 */
+	public Integer nextIntOrNull() throws IOException {
+		if(peek() != Token.NUMBER) {
+			skipValue();
+			return null;
+		}
+		return nextInt();
+	}
+
+	/**
+	 * Skips the next value, including all nested values of arrays and objects
+	 * @throws IOException if the source could not be read
+	 * @since 1.1.0
+	 */
+	public void skipValue() throws IOException {
+		switch(peek()) {
+			case BEGIN_OBJECT:
+				beginObject();
+				while(hasNext()) {
+					nextName();
+					skipValue();
+				}
+				endObject();
+				break;
+			case BEGIN_ARRAY:
+				beginArray();
+				while(hasNext()) {
+					skipValue();
+				}
+				endArray();
+				break;
+			case NAME:
+				nextName();
+				skipValue();
+				break;
+			case STRING:
+				nextString();
+				break;
+			case NUMBER:
+				nextNumber();
+				break;
+			case BOOLEAN:
+				nextBoolean();
+				break;
+			case NULL:
+				nextNull();
+				break;
+			default:
+				throw syntaxError("Expected a value");
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		source.close();
+	}
+
+	private String nextNumber() throws IOException {
+		beforeValue();
+		long length = 0;
+		while(source.request(length + 1)) {
+			byte b = buffer.getByte(length);
+			if((b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E') {
+				length++;
+			} else {
+				break;
+			}
+		}
+		if(length == 0) {
+			throw syntaxError("Expected a number");
+		}
+		return buffer.readUtf8(length);
+	}
+
+	/**
+	 * Reads the rest of a string, whose opening quote has already been consumed
+	 */
+	private String readString() throws IOException {
+		StringBuilder builder = null;
+		while(true) {
+			long index = source.indexOfElement(STRING_SPECIALS);
+			if(index == -1) {
+				throw syntaxError("Unterminated string");
+			}
+			if(buffer.getByte(index) == '"') {
+				String chunk = buffer.readUtf8(index);
+				buffer.skip(1);
+				if(builder == null) {
+					return chunk;
+				}
+				return builder.append(chunk).toString();
+			}
+			if(builder == null) {
+				builder = new StringBuilder();
+			}
+			builder.append(buffer.readUtf8(index));
+			buffer.skip(1);
+			builder.append(readEscape());
+		}
+	}
+
+	private char readEscape() throws IOException {
+		if(!source.request(1)) {
+			throw syntaxError("Unterminated escape sequence");
+		}
+		byte escaped = buffer.readByte();
+		switch(escaped) {
+			case 'b':
+				return '\b';
+			case 't':
+				return '\t';
+			case 'n':
+				return '\n';
+			case 'f':
+				return '\f';
+			case 'r':
+				return '\r';
+			case 'u':
+				if(!source.request(4)) {
+					throw syntaxError("Unterminated escape sequence");
+				}
+				try {
+					return (char) Integer.parseInt(buffer.readUtf8(4), 16);
+				} catch (NumberFormatException e) {
+					throw syntaxError("Illegal escape sequence");
+				}
+			case '"':
+			case '\\':
+			case '/':
+				return (char) escaped;
+			default:
+				throw syntaxError("Illegal escape sequence");
+		}
+	}
+
+	/**
+	 * Consumes the separator in front of the next element of an array or object
+	 */
+	private void prepare() throws IOException {
+		int top = top();
+		if(top != NONEMPTY_ARRAY && top != NONEMPTY_OBJECT) {
+			return;
+		}
+		if(peekByte() == ',') {
+			buffer.skip(1);
+			stack[stackSize - 1] = top == NONEMPTY_ARRAY ? ARRAY_VALUE : OBJECT_NAME;
+		}
+	}
+
+	private void beforeValue() throws IOException {
+		prepare();
+		switch(top()) {
+			case EMPTY_ARRAY:
+			case ARRAY_VALUE:
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+				break;
+			case DANGLING_NAME:
+				stack[stackSize - 1] = NONEMPTY_OBJECT;
+				break;
+			case EMPTY_DOCUMENT:
+				stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+				break;
+			case NONEMPTY_ARRAY:
+				throw syntaxError("Expected a ',' or ']'");
+			case NONEMPTY_DOCUMENT:
+				throw syntaxError("Expected the end of the document");
+			default:
+				throw syntaxError("Expected a name");
+		}
+	}
+
+	/**
+	 * Skips whitespace and returns the next byte without consuming it
+	 * @return the next byte, or -1 at the end of the source
+	 */
+	private int peekByte() throws IOException {
+		while(source.request(1)) {
+			byte b = buffer.getByte(0);
+			if(b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+				buffer.skip(1);
+			} else {
+				return b;
+			}
+		}
+		return -1;
+	}
+
+	private void expect(char c) throws IOException {
+		if(peekByte() != c) {
+			throw syntaxError("Expected '"+c+"'");
+		}
+		buffer.skip(1);
+	}
+
+	private void expectLiteral(String literal) throws IOException {
+		peekByte();
+		if(!source.request(literal.length())) {
+			throw syntaxError("Expected "+literal);
+		}
+		for(int i = 0; i < literal.length(); i++) {
+			if(buffer.getByte(i) != literal.charAt(i)) {
+				throw syntaxError("Expected "+literal);
+			}
+		}
+		buffer.skip(literal.length());
+	}
+
+	private int top() {
+		return stack[stackSize - 1];
+	}
+
+	private void push(int scope) {
+		if(stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		}
+		stack[stackSize++] = scope;
+	}
+
+	private JSONException syntaxError(String message) {
+		return new JSONException(message+" at depth "+(stackSize - 1));
+	}
+}
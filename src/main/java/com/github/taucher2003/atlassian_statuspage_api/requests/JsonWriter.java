@@ -0,0 +1,249 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writes JSON tokens directly into a sink, e.g. the body of a request, without building a {@link org.json.JSONObject} first.
+ * <br>Like {@link org.json.JSONObject#put(String, Object)}, a name with a {@code null} value is left out.
+ * <br>Names that are written often can be encoded once with {@link #encodeName(String)}, so writing them
+ * only copies their bytes.
+ * <pre>{@code
+ * writer.beginObject().name("component").beginObject()
+ * 	.name("status").value("operational")
+ * 	.endObject().endObject();
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public class JsonWriter {
+
+	private static final String[] REPLACEMENT_CHARS = new String[128];
+	private static final String LINE_SEPARATOR_REPLACEMENT = "\\u2028";
+	private static final String PARAGRAPH_SEPARATOR_REPLACEMENT = "\\u2029";
+
+	static {
+		// the escapes are created once, so writing a string never allocates
+		for(int c = 0; c < 0x20; c++) {
+			REPLACEMENT_CHARS[c] = String.format("\\u%04x", c);
+		}
+		REPLACEMENT_CHARS['"'] = "\\\"";
+		REPLACEMENT_CHARS['\\'] = "\\\\";
+		REPLACEMENT_CHARS['\n'] = "\\n";
+		REPLACEMENT_CHARS['\r'] = "\\r";
+		REPLACEMENT_CHARS['\t'] = "\\t";
+	}
+
+	private final BufferedSink sink;
+	private boolean[] nonEmpty = new boolean[16];
+	private int depth = 0;
+	private String deferredName;
+	private ByteString deferredEncodedName;
+	private boolean serializeNulls = false;
+
+	/**
+	 * Creates a writer for the given sink
+	 * @param sink the sink
+	 * @since 1.1.0
+	 */
+	public JsonWriter(BufferedSink sink) {
+		this.sink = sink;
+	}
+
+	/**
+	 * Sets if names with a {@code null} value are written. By default they are left out
+	 * @param serializeNulls true, to write {@code null} values
+	 * @return this writer, for chaining
+	 * @since 1.1.0
+	 */
+	public JsonWriter setSerializeNulls(boolean serializeNulls) {
+		this.serializeNulls = serializeNulls;
+		return this;
+	}
+
+	public JsonWriter beginObject() throws IOException {
+		beforeValue();
+		sink.writeByte('{');
+		push();
+		return this;
+	}
+
+	public JsonWriter endObject() throws IOException {
+		deferredName = null;
+		deferredEncodedName = null;
+		depth--;
+		sink.writeByte('}');
+		return this;
+	}
+
+	public JsonWriter beginArray() throws IOException {
+		beforeValue();
+		sink.writeByte('[');
+		push();
+		return this;
+	}
+
+	public JsonWriter endArray() throws IOException {
+		depth--;
+		sink.writeByte(']');
+		return this;
+	}
+
+	/**
+	 * Sets the name of the next value. The name is only written together with a non-null value
+	 * @param name the name
+	 * @return this writer, for chaining
+	 * @since 1.1.0
+	 */
+	public JsonWriter name(String name) {
+		deferredName = name;
+		deferredEncodedName = null;
+		return this;
+	}
+
+	/**
+	 * Sets the name of the next value to a name encoded with {@link #encodeName(String)}.
+	 * The name is only written together with a non-null value
+	 * @param encodedName the encoded name
+	 * @return this writer, for chaining
+	 * @since 1.1.0
+	 */
+	public JsonWriter name(ByteString encodedName) {
+		deferredEncodedName = encodedName;
+		deferredName = null;
+		return this;
+	}
+
+	/**
+	 * Encodes a name once, including its quotes and the following colon, so it can be written
+	 * with {@link #name(ByteString)} without escaping and encoding it again
+	 * @param name the name
+	 * @return the encoded name
+	 * @since 1.1.0
+	 */
+	public static ByteString encodeName(String name) {
+		Buffer buffer = new Buffer();
+		try {
+			JsonWriter writer = new JsonWriter(buffer);
+			writer.writeString(name);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		return buffer.writeByte(':').readByteString();
+	}
+
+	public JsonWriter value(String value) throws IOException {
+		if(value == null) {
+			return nullValue();
+		}
+		beforeValue();
+		writeString(value);
+		return this;
+	}
+
+	public JsonWriter value(boolean value) throws IOException {
+		beforeValue();
+		sink.writeUtf8(value ? "true" : "false");
+		return this;
+	}
+
+	public JsonWriter value(long value) throws IOException {
+		beforeValue();
+		sink.writeDecimalLong(value);
+		return this;
+	}
+
+	/**
+	 * Writes {@code null} as array element. Inside an object, the name of the value is left out instead,
+	 * unless {@link #setSerializeNulls(boolean) nulls are serialized}
+	 * @return this writer, for chaining
+	 * @throws IOException if the sink could not be written
+	 * @since 1.1.0
+	 */
+	public JsonWriter nullValue() throws IOException {
+		if(!serializeNulls && (deferredName != null || deferredEncodedName != null)) {
+			deferredName = null;
+			deferredEncodedName = null;
+			return this;
+		}
+		beforeValue();
+		sink.writeUtf8("null");
+		return this;
+	}
+
+	private void beforeValue() throws IOException {
+		if(depth > 0) {
+			if(nonEmpty[depth - 1]) {
+				sink.writeByte(',');
+			}
+			nonEmpty[depth - 1] = true;
+		}
+		if(deferredEncodedName != null) {
+			sink.write(deferredEncodedName);
+			deferredEncodedName = null;
+		} else if(deferredName != null) {
+			writeString(deferredName);
+			sink.writeByte(':');
+			deferredName = null;
+		}
+	}
+
+	private void push() {
+		if(depth == nonEmpty.length) {
+			nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+		}
+		nonEmpty[depth++] = false;
+	}
+
+	private void writeString(String value) throws IOException {
+		sink.writeByte('"');
+		int last = 0;
+		int length = value.length();
+		for(int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			String replacement;
+			if(c < REPLACEMENT_CHARS.length) {
+				replacement = REPLACEMENT_CHARS[c];
+				if(replacement == null) {
+					continue;
+				}
+			} else if(c == '\u2028') {
+				replacement = LINE_SEPARATOR_REPLACEMENT;
+			} else if(c == '\u2029') {
+				replacement = PARAGRAPH_SEPARATOR_REPLACEMENT;
+			} else {
+				continue;
+			}
+			if(last < i) {
+				sink.writeUtf8(value, last, i);
+			}
+			sink.writeUtf8(replacement);
+			last = i + 1;
+		}
+		if(last < length) {
+			sink.writeUtf8(value, last, length);
+		}
+		sink.writeByte('"');
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A {@link HttpTransport} using an {@link OkHttpClient}. This is the default transport.
+ *
+ * @since 1.1.0
+ */
+public class OkHttpTransport implements HttpTransport {
+
+	private final OkHttpClient client;
+
+	/**
+	 * Creates a transport with a new client using the default settings
+	 * @since 1.1.0
+	 */
+	public OkHttpTransport() {
+		this(new OkHttpClient());
+	}
+
+	/**
+	 * Creates a transport sharing the given client, including its connection pool
+	 * @param client the client to use
+	 * @since 1.1.0
+	 */
+	public OkHttpTransport(OkHttpClient client) {
+		this.client = client;
+	}
+
+	public OkHttpClient getClient() {
+		return client;
+	}
+
+	@Override
+	public TransportResponse execute(String method, String url, Map<String, String> headers, RequestBody body) throws IOException {
+		com.squareup.okhttp.Request.Builder builder = new com.squareup.okhttp.Request.Builder().url(url).method(method, body);
+		headers.forEach(builder::header);
+		Response response = client.newCall(builder.build()).execute();
+		return new TransportResponse(response.code(), response.protocol().toString(), response.headers().toMultimap(), response.body().byteStream());
+	}
+}
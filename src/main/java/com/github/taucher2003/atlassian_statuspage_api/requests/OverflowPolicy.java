@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+/**
+ * Decides what happens to a new {@link Request}, if the queue of the {@link Requester} is full.
+ * <br>Requests that are coalesced into an already queued request never count against the capacity.
+ *
+ * @since 1.1.0
+ * @see Requester#setQueueCapacity(int, OverflowPolicy)
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * The calling thread waits until the queue has space again
+	 */
+	BLOCK,
+	/**
+	 * The request is rejected with a {@link java.util.concurrent.RejectedExecutionException RejectedExecutionException}
+	 */
+	REJECT,
+	/**
+	 * The oldest queued request of the lowest priority is dropped and its callers fail with a
+	 * {@link java.util.concurrent.RejectedExecutionException RejectedExecutionException}.
+	 * If every queued request has a higher priority than the new one, the new request is rejected instead
+	 */
+	DROP_OLDEST_LOW_PRIORITY,
+	/**
+	 * The request replaces the oldest queued request with the same method and url, whose payload is discarded.
+	 * The callers of both requests are completed with the response of the new one.
+	 * {@link Route.Method#POST POST} requests are never replaced. If no request can be replaced, the new request is rejected
+	 */
+	COALESCE
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.RequestBody;
+import okio.BufferedSink;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The body of a partial update, e.g. a {@link Route.Method#PATCH PATCH} request, that contains only the changed fields
+ * of one entity: <pre>{@code {"component":{"status":"major_outage"}}}</pre>
+ * <br>The {@link Requester} merges queued partial updates of the same resource field by field, so only one request
+ * is sent and no change is lost. A {@code null} value is sent as {@code null} to clear the field.
+ * <br>Set all fields before the request is queued.
+ *
+ * @since 1.1.0
+ */
+public class PatchBody extends RequestBody {
+
+	private final ByteString root;
+	private final Map<ByteString, Object> fields = new LinkedHashMap<>();
+
+	/**
+	 * Creates an empty partial update
+	 * @param root the name of the entity object, encoded with {@link JsonWriter#encodeName(String)}
+	 * @since 1.1.0
+	 */
+	public PatchBody(ByteString root) {
+		this.root = root;
+	}
+
+	public PatchBody set(ByteString name, String value) {
+		fields.put(name, value);
+		return this;
+	}
+
+	public PatchBody set(ByteString name, boolean value) {
+		fields.put(name, value);
+		return this;
+	}
+
+	public PatchBody set(ByteString name, long value) {
+		fields.put(name, value);
+		return this;
+	}
+
+	/**
+	 * Removes a field from this update
+	 * @param name the encoded name of the field
+	 * @return this body, for chaining
+	 * @since 1.1.0
+	 */
+	public PatchBody remove(ByteString name) {
+		fields.remove(name);
+		return this;
+	}
+
+	/**
+	 * Checks if no field has been changed
+	 * @return true, if this update has no fields
+	 * @since 1.1.0
+	 */
+	public boolean isEmpty() {
+		return fields.isEmpty();
+	}
+
+	/**
+	 * Combines this update with a newer one. Fields contained in both updates get the value of the newer one
+	 * @param newer the newer update of the same entity
+	 * @return a new update containing the fields of both
+	 * @since 1.1.0
+	 */
+	public PatchBody merge(PatchBody newer) {
+		PatchBody merged = new PatchBody(root);
+		merged.fields.putAll(fields);
+		merged.fields.putAll(newer.fields);
+		return merged;
+	}
+
+	@Override
+	public MediaType contentType() {
+		return Request.MEDIA_TYPE_JSON;
+	}
+
+	@Override
+	public void writeTo(BufferedSink sink) throws IOException {
+		JsonWriter writer = new JsonWriter(sink).setSerializeNulls(true);
+		writer.beginObject().name(root).beginObject();
+		for(Map.Entry<ByteString, Object> field : fields.entrySet()) {
+			writer.name(field.getKey());
+			Object value = field.getValue();
+			if(value instanceof Boolean) {
+				writer.value((boolean) value);
+			} else if(value instanceof Long) {
+				writer.value((long) value);
+			} else {
+				writer.value((String) value);
+			}
+		}
+		writer.endObject().endObject();
+	}
+}
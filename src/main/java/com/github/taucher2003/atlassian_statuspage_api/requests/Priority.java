@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+/**
+ * The priority class of a {@link Request}.
+ * <br>The {@link Requester} always sends queued requests of a higher priority first.
+ * Requests within the same priority are sent in the order they were queued.
+ *
+ * @since 1.1.0
+ * @see Request#setPriority(Priority)
+ */
+public enum Priority {
+
+	/**
+	 * Status changes of components
+	 */
+	HIGH,
+	/**
+	 * Creating and deleting entities, and reading them
+	 */
+	NORMAL,
+	/**
+	 * Branding and page settings
+	 */
+	LOW
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import com.squareup.okhttp.Headers;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The rate limit state reported by the api in the headers of a response.
+ * <br>Every value is {@code -1} if the api did not send it.
+ *
+ * @since 1.1.0
+ * @see RateLimiter#onRateLimitInfo(RateLimitInfo)
+ */
+public class RateLimitInfo {
+
+	public static final String HEADER_LIMIT = "X-RateLimit-Limit";
+	public static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+	public static final String HEADER_RESET = "X-RateLimit-Reset";
+	public static final String HEADER_RETRY_AFTER = "Retry-After";
+
+	/**
+	 * Reset values above this are treated as epoch seconds, smaller values as seconds until the reset
+	 */
+	private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+	private final int statusCode;
+	private final long limit;
+	private final long remaining;
+	private final long resetAfterNanos;
+	private final long retryAfterNanos;
+
+	private RateLimitInfo(int statusCode, long limit, long remaining, long resetAfterNanos, long retryAfterNanos) {
+		this.statusCode = statusCode;
+		this.limit = limit;
+		this.remaining = remaining;
+		this.resetAfterNanos = resetAfterNanos;
+		this.retryAfterNanos = retryAfterNanos;
+	}
+
+	/**
+	 * Reads the rate limit headers of a response
+	 * @param statusCode the status code of the response
+	 * @param headers the headers of the response
+	 * @return the parsed information
+	 * @since 1.1.0
+	 */
+	public static RateLimitInfo fromHeaders(int statusCode, Headers headers) {
+		long now = System.currentTimeMillis();
+		long limit = parseLong(headers.get(HEADER_LIMIT));
+		long remaining = parseLong(headers.get(HEADER_REMAINING));
+		long reset = parseLong(headers.get(HEADER_RESET));
+		long resetAfterNanos = -1;
+		if(reset >= 0) {
+			long resetAfterSeconds = reset > EPOCH_SECONDS_THRESHOLD ? reset - TimeUnit.MILLISECONDS.toSeconds(now) : reset;
+			resetAfterNanos = TimeUnit.SECONDS.toNanos(Math.max(0, resetAfterSeconds));
+		}
+		return new RateLimitInfo(statusCode, limit, remaining, resetAfterNanos, parseRetryAfter(headers.get(HEADER_RETRY_AFTER), now));
+	}
+
+	private static long parseLong(String value) {
+		if(value == null) {
+			return -1;
+		}
+		try {
+			return (long) Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static long parseRetryAfter(String value, long now) {
+		if(value == null) {
+			return -1;
+		}
+		long seconds = parseLong(value);
+		if(seconds >= 0) {
+			return TimeUnit.SECONDS.toNanos(seconds);
+		}
+		try {
+			Instant retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, retryAt.toEpochMilli() - now));
+		} catch (DateTimeParseException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Checks if the api rejected the request, because the rate limit has been exceeded
+	 * @return true, if the response had the status code 429
+	 * @since 1.1.0
+	 */
+	public boolean isRateLimited() {
+		return statusCode == 429;
+	}
+
+	/**
+	 * Gets the number of requests allowed in the current window
+	 * @return the limit
+	 * @since 1.1.0
+	 */
+	public long getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Gets the number of requests remaining in the current window
+	 * @return the remaining requests
+	 * @since 1.1.0
+	 */
+	public long getRemaining() {
+		return remaining;
+	}
+
+	/**
+	 * Gets the time in nanoseconds until the current window is reset
+	 * @return the time until the reset
+	 * @since 1.1.0
+	 */
+	public long getResetAfterNanos() {
+		return resetAfterNanos;
+	}
+
+	/**
+	 * Gets the time in nanoseconds the api asked to wait before sending the next request
+	 * @return the time to wait
+	 * @since 1.1.0
+	 */
+	public long getRetryAfterNanos() {
+		return retryAfterNanos;
+	}
+
+	/**
+	 * Gets the time in nanoseconds the queue has to be paused, based on this information
+	 * @return the time to pause, or {@code 0} if no pause is required
+	 * @since 1.1.0
+	 */
+	public long getPauseNanos() {
+		if(retryAfterNanos >= 0) {
+			return retryAfterNanos;
+		}
+		if(remaining == 0 && resetAfterNanos >= 0) {
+			return resetAfterNanos;
+		}
+		if(isRateLimited()) {
+			return resetAfterNanos >= 0 ? resetAfterNanos : TimeUnit.SECONDS.toNanos(1);
+		}
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		return "RateLimitInfo(status="+statusCode+", limit="+limit+", remaining="+remaining+", reset_after_ns="+resetAfterNanos+", retry_after_ns="+retryAfterNanos+")";
+	}
+}
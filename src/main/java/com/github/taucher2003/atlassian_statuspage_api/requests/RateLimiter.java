@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+/**
+ * Decides when the {@link Requester} may send its next {@link Request}.
+ * <br>{@link #tryAcquire()} is called from the dispatching thread only, {@link #onRateLimitInfo(RateLimitInfo)}
+ * from the threads executing the requests. Implementations have to be thread safe.
+ *
+ * @since 1.1.0
+ * @see TokenBucketRateLimiter
+ * @see Requester#setRateLimiter(RateLimiter)
+ */
+public interface RateLimiter {
+
+	/**
+	 * Tries to take the permit for sending one request.
+	 * @return {@code 0} if the permit was taken, otherwise the time in nanoseconds to wait before trying again
+	 * @since 1.1.0
+	 */
+	long tryAcquire();
+
+	/**
+	 * Called with the rate limit headers of every response, so the pacing can follow the limits of the api.
+	 * <br>Pausing the queue after a 429 response or an exhausted window is handled by the {@link Requester}.
+	 * @param info the rate limit information of the response
+	 * @since 1.1.0
+	 */
+	default void onRateLimitInfo(RateLimitInfo info) {
+	}
+}
@@ -19,6 +19,9 @@ package com.github.taucher2003.atlassian_statuspage_api.requests;
 import com.squareup.okhttp.MediaType;
 import com.squareup.okhttp.RequestBody;
 import com.squareup.okhttp.internal.http.HttpMethod;
+import okio.BufferedSink;
+
+import java.io.IOException;
 
 public class Request {
 
@@ -27,10 +30,39 @@ public class Request {
 
 	private final Route.CompiledRoute compiledRoute;
 	private final RequestBody requestBody;
+	private volatile boolean retryable;
+	private volatile Priority priority;
+	private volatile boolean streaming;
+	private volatile String etag;
+	private volatile String lastModified;
 
 	public Request(Route.CompiledRoute compiledRoute, RequestBody requestBody) {
 		this.compiledRoute = compiledRoute;
 		this.requestBody = HttpMethod.permitsRequestBody(compiledRoute.getRoute().getMethod().name()) ? requestBody : null;
+		this.retryable = compiledRoute.getRoute().getMethod().isIdempotent();
+		this.priority = compiledRoute.getRoute().getPriority();
+	}
+
+	/**
+	 * Creates a JSON request body written by the given encoder, without building a {@link org.json.JSONObject} first.
+	 * <br>The payload is not created up front, the encoder writes it straight into the connection whenever the body is sent.
+	 * So the encoder has to capture its values and must produce the same payload every time, as a retry sends it again.
+	 * @param encoder the encoder writing the payload
+	 * @return the request body
+	 * @since 1.1.0
+	 */
+	public static RequestBody jsonBody(JsonEncoder encoder) {
+		return new RequestBody() {
+			@Override
+			public MediaType contentType() {
+				return MEDIA_TYPE_JSON;
+			}
+
+			@Override
+			public void writeTo(BufferedSink sink) throws IOException {
+				encoder.encode(new JsonWriter(sink));
+			}
+		};
 	}
 
 	public Route.CompiledRoute getCompiledRoute() {
@@ -40,9 +72,97 @@ public class Request {
 	public RequestBody getRequestBody() {
 		return requestBody;
 	}
+
+	public boolean isRetryable() {
+		return retryable;
+	}
+
+	/**
+	 * Sets if this request may be retried after a transient failure.
+	 * <br>Requests with an idempotent {@link Route.Method} are retryable by default.
+	 * Requests like {@link Route.Method#POST POST} have to opt in, as a retry may apply them twice.
+	 * @param retryable true, if this request may be retried
+	 * @return this request, for chaining
+	 * @since 1.1.0
+	 * @see Requester#setRetryPolicy(Route.Method, RetryPolicy)
+	 */
+	public Request setRetryable(boolean retryable) {
+		this.retryable = retryable;
+		return this;
+	}
+	
+	public Priority getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the {@link Priority} of this request. The default priority is taken from the {@link Route}.
+	 * <br>Changing the priority after the request has been queued has no effect.
+	 * @param priority the new priority
+	 * @return this request, for chaining
+	 * @since 1.1.0
+	 */
+	public Request setPriority(Priority priority) {
+		this.priority = priority;
+		return this;
+	}
+
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	/**
+	 * Sets if the response body of this request is handed to the caller as a raw stream.
+	 * <br>By default the {@link Requester} reads the whole body into memory and closes the connection's stream
+	 * before the caller gets the response, so the connection always goes back to the pool.
+	 * A streaming response is read directly from the connection and the caller <b>has to close its body</b>,
+	 * otherwise the connection cannot be reused.
+	 * @param streaming true, if the body should not be buffered
+	 * @return this request, for chaining
+	 * @since 1.1.0
+	 */
+	public Request setStreaming(boolean streaming) {
+		this.streaming = streaming;
+		return this;
+	}
+
+	public boolean isConditional() {
+		return etag != null || lastModified != null;
+	}
+	
+	public String getETag() {
+		return etag;
+	}
 	
+	public String getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Makes this {@link Route.Method#GET GET} request conditional, by sending the validators of a previous response
+	 * as {@code If-None-Match} and {@code If-Modified-Since}.
+	 * <br>If the resource has not changed since, the response has the code {@code 304} and no body,
+	 * so the caller has to keep the result the validators belong to.
+	 * @param etag the {@code ETag} header of the previous response, may be null
+	 * @param lastModified the {@code Last-Modified} header of the previous response, may be null
+	 * @return this request, for chaining
+	 * @since 1.1.0
+	 */
+	public Request setConditional(String etag, String lastModified) {
+		this.etag = etag;
+		this.lastModified = lastModified;
+		return this;
+	}
+
 	@Override
 	public String toString() {
-		return "Request(route="+compiledRoute.getRoute().getMethod().name()+" "+compiledRoute.getComiledUrl()+")";
+		return toString(compiledRoute.getCompiledPath());
+	}
+
+	/**
+	 * Describes this request with the full url it is sent to, which depends on the base url of the api
+	 */
+	String toString(String url) {
+		return "Request(route="+compiledRoute.getRoute().getMethod().name()+" "+url+")";
 	}
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The queue of the {@link Requester}. It holds one FIFO lane per {@link Priority}.
+ * <br>This class is not thread safe, the Requester guards it with its lock.
+ *
+ * @param <E> the type of the queued elements
+ */
+class RequestQueue<E> {
+
+	private final Map<Priority, ArrayDeque<E>> lanes = new EnumMap<>(Priority.class);
+	private final Function<E, Priority> priorityOf;
+	private int size;
+
+	RequestQueue(Function<E, Priority> priorityOf) {
+		this.priorityOf = priorityOf;
+		for(Priority priority : Priority.values()) {
+			lanes.put(priority, new ArrayDeque<>());
+		}
+	}
+
+	void add(E element) {
+		lanes.get(priorityOf.apply(element)).addLast(element);
+		size++;
+	}
+
+	/**
+	 * Adds an element in front of its lane, e.g. if it has to be sent again
+	 */
+	void addFirst(E element) {
+		lanes.get(priorityOf.apply(element)).addFirst(element);
+		size++;
+	}
+
+	/**
+	 * Removes the given element, wherever it is queued
+	 */
+	boolean remove(E element) {
+		for(ArrayDeque<E> lane : lanes.values()) {
+			if(lane.remove(element)) {
+				size--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the first element of the highest priority, that matches the filter
+	 */
+	E peek(Predicate<E> filter) {
+		for(ArrayDeque<E> lane : lanes.values()) {
+			for(E element : lane) {
+				if(filter.test(element)) {
+					return element;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the first element of the lowest priority, that matches the filter
+	 */
+	E peekLowest(Predicate<E> filter) {
+		Priority[] priorities = Priority.values();
+		for(int i = priorities.length - 1; i >= 0; i--) {
+			for(E element : lanes.get(priorities[i])) {
+				if(filter.test(element)) {
+					return element;
+				}
+			}
+		}
+		return null;
+	}
+
+	E poll() {
+		for(ArrayDeque<E> lane : lanes.values()) {
+			E element = lane.poll();
+			if(element != null) {
+				size--;
+				return element;
+			}
+		}
+		return null;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Removes all elements, highest priority first
+	 */
+	List<E> drain() {
+		List<E> drained = new ArrayList<>(size);
+		for(ArrayDeque<E> lane : lanes.values()) {
+			drained.addAll(lane);
+			lane.clear();
+		}
+		size = 0;
+		return drained;
+	}
+}
@@ -17,134 +17,1170 @@
 package com.github.taucher2003.atlassian_statuspage_api.requests;
 
 import com.github.taucher2003.atlassian_statuspage_api.StatuspageAPI;
-import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Headers;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
 import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import okio.BufferedSource;
+import okio.Okio;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 public class Requester {
 
-	private final OkHttpClient okHttpClient = new OkHttpClient();
-	private long nextRequestAt = System.currentTimeMillis();
+	public static final int DEFAULT_ASYNC_THREADS = 2;
+	public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1000;
+	public static final int DEFAULT_MAX_CONCURRENCY = 1;
+	public static final int UNBOUNDED_QUEUE_CAPACITY = Integer.MAX_VALUE;
+
+	private final HttpTransport transport;
+	private volatile RateLimiter rateLimiter = new TokenBucketRateLimiter(1, 1);
 	
 	private final StatuspageAPI statuspageAPI;
-	private final HashMap<Request, Consumer<Response>> queue;
-	private Request nextExecution;
+	private final RequestQueue<QueuedRequest> queue;
+	private final Map<String, QueuedRequest> pendingWrites = new HashMap<>();
+	private final Map<String, QueuedRequest> pendingReads = new HashMap<>();
+	private final Map<String, ArrayDeque<QueuedRequest>> queuedByKey = new HashMap<>();
+	private final Map<String, QueuedRequest> executingByKey = new HashMap<>();
+	private final PriorityQueue<QueuedRequest> delayed = new PriorityQueue<>(Comparator.comparingLong(q -> q.notBefore));
+	private final Map<Route.Method, RetryPolicy> retryPolicies = new EnumMap<>(Route.Method.class);
+	private volatile RetryBudget retryBudget = new RetryBudget(0.2, 10);
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition queueChanged = lock.newCondition();
+	private final Condition queueNotFull = lock.newCondition();
+	private int queueCapacity = UNBOUNDED_QUEUE_CAPACITY;
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+	
+	private long pausedUntil = System.nanoTime();
+	private int inFlight = 0;
+	private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+	private final ThreadPoolExecutor workers;
+	private volatile ExecutorService asyncExecutor = createAsyncExecutor(DEFAULT_ASYNC_THREADS, DEFAULT_ASYNC_QUEUE_CAPACITY, new ThreadPoolExecutor.CallerRunsPolicy());
+	
+	private final ScheduledExecutorService keepAliveExecutor;
+	private ScheduledFuture<?> keepAlive;
+	private volatile long lastExchange = System.nanoTime();
 	
-	private boolean shutdown = false;
+	private volatile boolean shutdown = false;
+	private volatile boolean stopped = false;
+	private volatile boolean terminated = false;
+	private final Condition terminationReached = lock.newCondition();
 	
 	public Requester(StatuspageAPI api) {
+		this(api, new OkHttpTransport());
+	}
+	
+	/**
+	 * Creates a Requester sending its requests with the given {@link HttpTransport}
+	 * @param api the api instance
+	 * @param transport the transport
+	 * @since 1.1.0
+	 */
+	public Requester(StatuspageAPI api, HttpTransport transport) {
 		statuspageAPI = api;
-		queue = new HashMap<>();
+		this.transport = transport;
+		queue = new RequestQueue<>(q -> q.priority);
+		AtomicInteger workerCount = new AtomicInteger();
+		workers = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread = new Thread(r, "Statuspage-Worker-"+workerCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		workers.allowCoreThreadTimeOut(true);
+		ScheduledThreadPoolExecutor keepAliveExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread thread = new Thread(r, "Statuspage-KeepAlive");
+			thread.setDaemon(true);
+			return thread;
+		});
+		keepAliveExecutor.setRemoveOnCancelPolicy(true);
+		this.keepAliveExecutor = keepAliveExecutor;
+		for(Route.Method method : Route.Method.values()) {
+			retryPolicies.put(method, RetryPolicy.DEFAULT);
+		}
 		executeQueue();
 	}
 	
 	public Response queue(Request request) {
-		queue.put(request, null);
-		while(nextExecution != request) {
-			if(!queue.containsKey(request)) {
-				throw new InternalError("Requester has been shutdown and forced a clear of queue");
+		return await(enqueue(request, false, true));
+	}
+	
+	public void queueAsync(Request request) {
+		queueAsync(request, r -> {});
+	}
+	
+	/**
+	 * Queues a {@link Request} and passes the response to the given handler.
+	 * <br>The body of the response is closed after the handler returned, so it must not be read afterwards.
+	 * @param request the request to execute
+	 * @param responseHandling the handler, may be null
+	 * @since 1.0.0
+	 */
+	public void queueAsync(Request request, Consumer<Response> responseHandling) {
+		submit(request).whenComplete((response, throwable) -> {
+			if(throwable != null) {
+				throwable.printStackTrace();
+				return;
+			}
+			if(response == null) {
+				return;
 			}
 			try {
-				Thread.sleep(1);
-			} catch (InterruptedException e) {
-				e.printStackTrace();
+				if(responseHandling != null) {
+					responseHandling.accept(response);
+				}
+			} finally {
+				closeQuietly(response);
 			}
+		});
+	}
+	
+	/**
+	 * Queues a {@link Request} without blocking the calling thread.
+	 * <br>The returned future is completed on the {@link #getAsyncExecutor() async executor}, so dependent stages
+	 * never block the dispatching of other requests. If the request fails, the future completes exceptionally
+	 * with the same exception {@link #queue(Request)} would throw or with an {@link UncheckedIOException}.
+	 * <br>Callers whose requests have been coalesced are completed one after another by the same task,
+	 * in the order they were submitted.
+	 * <br>Unless the request is {@link Request#setStreaming(boolean) streaming}, the body of the response is
+	 * already buffered in memory and the connection has been released.
+	 * @param request the request to execute
+	 * @return a future completing with the response
+	 * @since 1.1.0
+	 */
+	public CompletableFuture<Response> submit(Request request) {
+		return enqueue(request, true, true);
+	}
+	
+	/**
+	 * Queues a {@link Request} like {@link #submit(Request)}, but never waits for space in the queue.
+	 * <br>If the request cannot be coalesced with a queued one and the queue is full, it is not queued and
+	 * the {@link #setQueueCapacity(int, OverflowPolicy) overflow policy} is not applied, so no other request is dropped for it.
+	 * This is meant for optional requests, like refreshing a cached entity in the background.
+	 * @param request the request to execute
+	 * @return a future completing with the response, or null if the queue is full
+	 * @since 1.1.0
+	 */
+	public CompletableFuture<Response> trySubmit(Request request) {
+		return enqueue(request, true, false);
+	}
+	
+	/**
+	 * Creates a bounded executor that can be used with {@link #setAsyncExecutor(ExecutorService)}.
+	 * The number of threads never exceeds {@code threads}, no matter how many requests are pending.
+	 * @param threads the number of threads running response handlers
+	 * @param queueCapacity the number of response handlers that may wait for a free thread
+	 * @param queueFullPolicy the policy applied when the handler queue is full. Policies that silently discard
+	 *                        tasks leave the futures returned by {@link #submit(Request)} incomplete
+	 * @return the executor
+	 * @since 1.1.0
+	 */
+	public static ExecutorService createAsyncExecutor(int threads, int queueCapacity, RejectedExecutionHandler queueFullPolicy) {
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), r -> {
+			Thread thread = new Thread(r, "Statuspage-Async-"+threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}, queueFullPolicy);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+	
+	/**
+	 * Gets the executor that runs the response handlers of {@link #queueAsync(Request, Consumer)}
+	 * and completes the futures of {@link #submit(Request)}
+	 * @return the executor
+	 * @since 1.1.0
+	 */
+	public ExecutorService getAsyncExecutor() {
+		return asyncExecutor;
+	}
+	
+	/**
+	 * Sets the executor that runs the response handlers of {@link #queueAsync(Request, Consumer)}.
+	 * The previous executor is shut down after its already submitted handlers have been run.
+	 * @param asyncExecutor the new executor
+	 * @since 1.1.0
+	 * @see #createAsyncExecutor(int, int, RejectedExecutionHandler)
+	 */
+	public void setAsyncExecutor(ExecutorService asyncExecutor) {
+		ExecutorService previous = this.asyncExecutor;
+		this.asyncExecutor = asyncExecutor;
+		if(previous != asyncExecutor) {
+			previous.shutdown();
 		}
-		return execute(request);
 	}
 	
-	public void queueAsync(Request request) {
-		queueAsync(request, r -> {});
+	/**
+	 * Gets the {@link RateLimiter} that paces the requests of this Requester
+	 * @return the rate limiter
+	 * @since 1.1.0
+	 */
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
 	}
 	
-	public void queueAsync(Request request, Consumer<Response> responseHandling) {
-		new Thread(() -> {
-			queue.put(request, responseHandling);
-			while(nextExecution != request) {
-				if(!queue.containsKey(request)) {
-					throw new InternalError("Requester has been shutdown and forced a clear of queue");
+	/**
+	 * Sets the {@link RateLimiter} that paces the requests of this Requester.
+	 * <br>By default, a {@link TokenBucketRateLimiter} allowing one request per second without burst is used.
+	 * @param rateLimiter the new rate limiter
+	 * @since 1.1.0
+	 */
+	public void setRateLimiter(RateLimiter rateLimiter) {
+		lock.lock();
+		try {
+			this.rateLimiter = rateLimiter;
+			queueChanged.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the {@link RetryPolicy} used for requests with the given method
+	 * @param method the http method
+	 * @return the retry policy
+	 * @since 1.1.0
+	 */
+	public RetryPolicy getRetryPolicy(Route.Method method) {
+		synchronized (retryPolicies) {
+			return retryPolicies.get(method);
+		}
+	}
+	
+	/**
+	 * Sets the {@link RetryPolicy} used for requests with the given method.
+	 * <br>The policy is only applied to {@link Request#isRetryable() retryable} requests.
+	 * By default, every method uses {@link RetryPolicy#DEFAULT}.
+	 * @param method the http method
+	 * @param retryPolicy the new retry policy
+	 * @since 1.1.0
+	 */
+	public void setRetryPolicy(Route.Method method, RetryPolicy retryPolicy) {
+		synchronized (retryPolicies) {
+			retryPolicies.put(method, retryPolicy);
+		}
+	}
+	
+	/**
+	 * Gets the {@link RetryBudget} shared by all requests of this Requester
+	 * @return the retry budget
+	 * @since 1.1.0
+	 */
+	public RetryBudget getRetryBudget() {
+		return retryBudget;
+	}
+	
+	/**
+	 * Sets the {@link RetryBudget} shared by all requests of this Requester.
+	 * <br>By default, one retry is allowed per five requests, with up to 10 retries saved up.
+	 * @param retryBudget the new retry budget
+	 * @since 1.1.0
+	 */
+	public void setRetryBudget(RetryBudget retryBudget) {
+		this.retryBudget = retryBudget;
+	}
+	
+	/**
+	 * Gets the maximum number of requests executed at the same time
+	 * @return the maximum concurrency
+	 * @since 1.1.0
+	 */
+	public int getMaxConcurrency() {
+		lock.lock();
+		try {
+			return maxConcurrency;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Sets the maximum number of requests executed at the same time.
+	 * <br>Requests operating on the same entity (see {@link Route.CompiledRoute#getExecutionKey()}) are always executed
+	 * one after another in the order they were queued. Requests on different entities may run in parallel up to this limit.
+	 * Every request still has to pass the {@link #getRateLimiter() rate limiter}.
+	 * <br>The default is {@value #DEFAULT_MAX_CONCURRENCY}, which executes all requests one after another.
+	 * @param maxConcurrency the maximum concurrency
+	 * @since 1.1.0
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		if(maxConcurrency < 1) {
+			throw new IllegalArgumentException("maxConcurrency must be at least 1, but was "+maxConcurrency);
+		}
+		lock.lock();
+		try {
+			if(maxConcurrency > workers.getMaximumPoolSize()) {
+				workers.setMaximumPoolSize(maxConcurrency);
+				workers.setCorePoolSize(maxConcurrency);
+			} else {
+				workers.setCorePoolSize(maxConcurrency);
+				workers.setMaximumPoolSize(maxConcurrency);
+			}
+			this.maxConcurrency = maxConcurrency;
+			queueChanged.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the number of requests waiting in the queue, including requests waiting for a retry.
+	 * <br>Producers can use this to slow down before the queue reaches its {@link #getQueueCapacity() capacity}.
+	 * @return the queue size
+	 * @since 1.1.0
+	 */
+	public int getQueueSize() {
+		lock.lock();
+		try {
+			return queueSize();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the maximum number of requests waiting in the queue
+	 * @return the capacity
+	 * @since 1.1.0
+	 * @see #setQueueCapacity(int, OverflowPolicy)
+	 */
+	public int getQueueCapacity() {
+		lock.lock();
+		try {
+			return queueCapacity;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the {@link OverflowPolicy} applied when the queue is full
+	 * @return the overflow policy
+	 * @since 1.1.0
+	 * @see #setQueueCapacity(int, OverflowPolicy)
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		lock.lock();
+		try {
+			return overflowPolicy;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Limits the number of requests waiting in the queue.
+	 * <br>By default, the queue is {@link #UNBOUNDED_QUEUE_CAPACITY unbounded}.
+	 * Lowering the capacity below the current {@link #getQueueSize() size} does not remove already queued requests.
+	 * @param queueCapacity the maximum number of waiting requests
+	 * @param overflowPolicy the policy applied to new requests, if the queue is full
+	 * @since 1.1.0
+	 */
+	public void setQueueCapacity(int queueCapacity, OverflowPolicy overflowPolicy) {
+		if(queueCapacity < 1) {
+			throw new IllegalArgumentException("queueCapacity must be at least 1, but was "+queueCapacity);
+		}
+		lock.lock();
+		try {
+			this.queueCapacity = queueCapacity;
+			this.overflowPolicy = overflowPolicy;
+			queueNotFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private int queueSize() {
+		return queue.size() + delayed.size();
+	}
+	
+	/**
+	 * Adds a request to the queue
+	 * @param async true, if the caller is completed on the async executor
+	 * @param overflow true, to apply the overflow policy if the queue is full, false to return null instead
+	 */
+	private CompletableFuture<Response> enqueue(Request request, boolean async, boolean overflow) {
+		lock.lock();
+		try {
+			while(true) {
+				if(shutdown) {
+					throw new RejectedExecutionException("Requester has been shutdown, rejected "+request);
+				}
+				if(isCoalescable(request)) {
+					QueuedRequest pending = pendingWrites.get(coalescingKey(request));
+					if(pending != null) {
+						pending.request = merge(pending.request, request);
+						return coalesce(pending, request, async);
+					}
+				}
+				if(isDeduplicable(request)) {
+					QueuedRequest pending = pendingReads.get(coalescingKey(request));
+					if(pending != null) {
+						return coalesce(pending, request, async);
+					}
+				}
+				if(queueSize() < queueCapacity) {
+					break;
+				}
+				if(!overflow) {
+					return null;
 				}
+				switch(overflowPolicy) {
+					case BLOCK:
+						try {
+							queueNotFull.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							throw new RejectedExecutionException("Interrupted while waiting for space in the queue", e);
+						}
+						continue;
+					case DROP_OLDEST_LOW_PRIORITY:
+						QueuedRequest oldest = queue.peekLowest(q -> executingByKey.get(q.key) != q);
+						if(oldest == null || oldest.priority.compareTo(request.getPriority()) < 0) {
+							throw new RejectedExecutionException("The queue is full and has no request of a lower priority than "+request);
+						}
+						discard(oldest);
+						oldest.completeExceptionally(new RejectedExecutionException(oldest.request+" has been dropped from the full queue"), asyncExecutor);
+						continue;
+					case COALESCE:
+						String key = coalescingKey(request);
+						Route.Method method = request.getCompiledRoute().getRoute().getMethod();
+						QueuedRequest replaced = method == Route.Method.POST || (method == Route.Method.PATCH && !isCoalescable(request)) ? null
+								: queue.peek(q -> executingByKey.get(q.key) != q && coalescingKey(q.request).equals(key)
+										&& (method != Route.Method.PATCH || isCoalescable(q.request)));
+						if(replaced == null) {
+							throw new RejectedExecutionException("The queue is full and has no request to coalesce "+request+" with");
+						}
+						replaced.request = merge(replaced.request, request);
+						return coalesce(replaced, request, async);
+					case REJECT:
+					default:
+						throw new RejectedExecutionException("The queue is full, rejected "+request);
+				}
+			}
+			QueuedRequest queued = new QueuedRequest(request, async);
+			retryBudget.deposit();
+			queue.add(queued);
+			queuedByKey.computeIfAbsent(queued.key, k -> new ArrayDeque<>()).add(queued);
+			if(isCoalescable(request)) {
+				pendingWrites.put(coalescingKey(request), queued);
+			}
+			if(isDeduplicable(request)) {
+				pendingReads.put(coalescingKey(request), queued);
+			}
+			queueChanged.signalAll();
+			return queued.caller.future;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Removes a queued request, that has not been executed yet, from every index
+	 */
+	private void discard(QueuedRequest queued) {
+		queue.remove(queued);
+		pendingWrites.remove(coalescingKey(queued.request), queued);
+		pendingReads.remove(coalescingKey(queued.request), queued);
+		ArrayDeque<QueuedRequest> sameKey = queuedByKey.get(queued.key);
+		if(sameKey != null && sameKey.remove(queued) && sameKey.isEmpty()) {
+			queuedByKey.remove(queued.key);
+		}
+		queueNotFull.signalAll();
+		queueChanged.signalAll();
+	}
+	
+	/**
+	 * Full updates of the same resource replace each other and partial updates can be merged,
+	 * so only the latest one has to be sent
+	 */
+	private static boolean isCoalescable(Request request) {
+		switch(request.getCompiledRoute().getRoute().getMethod()) {
+			case PUT:
+				return true;
+			case PATCH:
+				return request.getRequestBody() instanceof PatchBody;
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Combines a queued request with a newer one for the same resource.
+	 * Partial updates are merged field by field, every other request is replaced by the newer one
+	 */
+	private static Request merge(Request older, Request newer) {
+		if(!(older.getRequestBody() instanceof PatchBody) || !(newer.getRequestBody() instanceof PatchBody)) {
+			return newer;
+		}
+		PatchBody merged = ((PatchBody) older.getRequestBody()).merge((PatchBody) newer.getRequestBody());
+		return new Request(newer.getCompiledRoute(), merged).setPriority(newer.getPriority())
+				.setRetryable(older.isRetryable() && newer.isRetryable()).setStreaming(newer.isStreaming());
+	}
+	
+	/**
+	 * Identical reads that are queued or in flight at the same time can share one response
+	 */
+	private static boolean isDeduplicable(Request request) {
+		return request.getCompiledRoute().getRoute().getMethod() == Route.Method.GET;
+	}
+	
+	private String coalescingKey(Request request) {
+		String key = request.getCompiledRoute().getRoute().getMethod().name()+" "+url(request);
+		// only callers sending the same validators can handle the same 304
+		return request.isConditional() ? key+" if-none-match="+request.getETag()+" if-modified-since="+request.getLastModified() : key;
+	}
+	
+	private CompletableFuture<Response> coalesce(QueuedRequest pending, Request request, boolean async) {
+		if(request.getPriority().compareTo(pending.priority) < 0 && queue.remove(pending)) {
+			pending.priority = request.getPriority();
+			queue.add(pending);
+		}
+		Caller caller = new Caller(async);
+		pending.coalesced.add(caller);
+		return caller.future;
+	}
+	
+	private Response await(CompletableFuture<Response> future) {
+		boolean interrupted = false;
+		try {
+			while(true) {
 				try {
-					Thread.sleep(1);
+					return future.get();
 				} catch (InterruptedException e) {
-					e.printStackTrace();
+					interrupted = true;
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if(cause instanceof UncheckedIOException) {
+						cause.getCause().printStackTrace();
+						return null;
+					}
+					if(cause instanceof RuntimeException) {
+						throw (RuntimeException) cause;
+					}
+					if(cause instanceof Error) {
+						throw (Error) cause;
+					}
+					throw new IllegalStateException(cause);
 				}
 			}
-			Response response = execute(request);
-			if(response != null && responseHandling != null) {
-				responseHandling.accept(response);
+		} finally {
+			if(interrupted) {
+				Thread.currentThread().interrupt();
 			}
-		}).start();
+		}
 	}
 	
 	private void executeQueue() {
 		Thread thread = new Thread(() -> {
-			synchronized (queue) {
-				while (!shutdown || queue.size() != 0) {
-					if (queue.size() == 0) {
-						try {
-							Thread.sleep(1);
-						} catch (InterruptedException e) {
-							e.printStackTrace();
+			while(true) {
+				QueuedRequest next;
+				lock.lock();
+				try {
+					while(true) {
+						moveDueRetries();
+						if(shutdown && queue.isEmpty() && delayed.isEmpty() && inFlight == 0) {
+							terminated = true;
+							terminationReached.signalAll();
+							workers.shutdown();
+							return;
+						}
+						long waitNanos = Long.MAX_VALUE;
+						QueuedRequest candidate = inFlight < maxConcurrency ? queue.peek(this::isExecutable) : null;
+						if(candidate != null) {
+							waitNanos = pausedUntil - System.nanoTime();
+							if(waitNanos <= 0) {
+								waitNanos = rateLimiter.tryAcquire();
+							}
+							if(waitNanos <= 0) {
+								next = candidate;
+								break;
+							}
+						}
+						if(!delayed.isEmpty()) {
+							waitNanos = Math.min(waitNanos, delayed.peek().notBefore - System.nanoTime());
 						}
-						continue;
-					}
-					Request request = Arrays.asList(queue.keySet().toArray(new Request[0])).get(0);
-					while (System.currentTimeMillis() <= nextRequestAt && nextExecution != null) {
 						try {
-							Thread.sleep(1);
+							if(waitNanos == Long.MAX_VALUE) {
+								queueChanged.await();
+							} else {
+								queueChanged.awaitNanos(waitNanos);
+							}
 						} catch (InterruptedException e) {
 							e.printStackTrace();
 						}
 					}
-					nextExecution = request;
-					queue.remove(request);
+					queue.remove(next);
+					if(isCoalescable(next.request)) {
+						pendingWrites.remove(coalescingKey(next.request), next);
+					}
+					ArrayDeque<QueuedRequest> sameKey = queuedByKey.get(next.key);
+					if(sameKey != null && sameKey.remove(next) && sameKey.isEmpty()) {
+						queuedByKey.remove(next.key);
+					}
+					queueNotFull.signalAll();
+					executingByKey.put(next.key, next);
+					inFlight++;
+				} finally {
+					lock.unlock();
 				}
+				workers.execute(() -> {
+					try {
+						dispatch(next);
+					} finally {
+						release(next);
+					}
+				});
 			}
-		});
+		}, "Statuspage-Requester");
 		thread.setDaemon(true);
 		thread.start();
 	}
 	
+	/**
+	 * A request may be executed, if no other request of its entity is executing or waiting for a retry,
+	 * and no older request of its entity is queued
+	 */
+	private boolean isExecutable(QueuedRequest queued) {
+		QueuedRequest executing = executingByKey.get(queued.key);
+		if(executing != null) {
+			return executing == queued;
+		}
+		ArrayDeque<QueuedRequest> sameKey = queuedByKey.get(queued.key);
+		return sameKey == null || sameKey.peekFirst() == queued;
+	}
+	
+	private void release(QueuedRequest queued) {
+		lock.lock();
+		try {
+			inFlight--;
+			if(queued.done) {
+				executingByKey.remove(queued.key, queued);
+			}
+			queueChanged.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private void moveDueRetries() {
+		long now = System.nanoTime();
+		while(!delayed.isEmpty() && delayed.peek().notBefore - now <= 0) {
+			queue.addFirst(delayed.poll());
+		}
+	}
+	
+	private void dispatch(QueuedRequest queued) {
+		Response response;
+		try {
+			response = execute(queued.request);
+		} catch (UncheckedIOException e) {
+			if(!scheduleRetry(queued)) {
+				completeExceptionally(queued, e);
+			}
+			return;
+		} catch (Throwable t) {
+			completeExceptionally(queued, t);
+			return;
+		}
+		try {
+			if(response.code() == 429) {
+				response.body().close();
+				requeue(queued);
+				return;
+			}
+			if(getRetryPolicy(queued.request.getCompiledRoute().getRoute().getMethod()).isRetryableStatus(response.code()) && scheduleRetry(queued)) {
+				response.body().close();
+				return;
+			}
+			// error responses throw here and are closed below, as no caller will read their body
+			checkResponse(response);
+			complete(queued, queued.request.isStreaming() ? response : buffer(response));
+		} catch (Throwable t) {
+			closeQuietly(response);
+			completeExceptionally(queued, t);
+		}
+	}
+	
+	/**
+	 * Reads the body into memory and closes the stream, which releases the connection to the pool
+	 */
+	private static Response buffer(Response response) throws IOException {
+		ResponseBody body = response.body();
+		if(body == null) {
+			return response;
+		}
+		try {
+			return response.newBuilder().body(ResponseBody.create(body.contentType(), body.bytes())).build();
+		} finally {
+			body.close();
+		}
+	}
+	
+	private static void closeQuietly(Response response) {
+		if(response == null || response.body() == null) {
+			return;
+		}
+		try {
+			response.body().close();
+		} catch (IOException | RuntimeException e) {
+			// the connection is discarded instead of being reused
+		}
+	}
+	
+	private void complete(QueuedRequest queued, Response response) throws IOException {
+		detach(queued);
+		queued.complete(response, asyncExecutor);
+	}
+	
+	private void completeExceptionally(QueuedRequest queued, Throwable t) {
+		detach(queued);
+		queued.completeExceptionally(t, asyncExecutor);
+	}
+	
+	/**
+	 * Stops further callers from sharing the response, so the list of callers can no longer change
+	 */
+	private void detach(QueuedRequest queued) {
+		if(!isDeduplicable(queued.request)) {
+			return;
+		}
+		lock.lock();
+		try {
+			pendingReads.remove(coalescingKey(queued.request), queued);
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	private boolean scheduleRetry(QueuedRequest queued) {
+		if(stopped || !queued.request.isRetryable()) {
+			return false;
+		}
+		RetryPolicy retryPolicy = getRetryPolicy(queued.request.getCompiledRoute().getRoute().getMethod());
+		if(queued.retries >= retryPolicy.getMaxRetries() || !retryBudget.tryWithdraw()) {
+			return false;
+		}
+		queued.notBefore = System.nanoTime()+retryPolicy.getDelayNanos(queued.retries++);
+		lock.lock();
+		try {
+			if(stopped) {
+				return false;
+			}
+			delayed.add(queued);
+			queueChanged.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		return true;
+	}
+	
+	private void requeue(QueuedRequest queued) {
+		lock.lock();
+		try {
+			if(stopped) {
+				queued.completeExceptionally(new CancellationException("Requester has been shutdown before "+queued.request+" was sent"), asyncExecutor);
+				return;
+			}
+			queue.addFirst(queued);
+			queueChanged.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+	
 	private Response execute(Request request) {
-		System.out.println(request);
-		com.squareup.okhttp.Request okRequest = new com.squareup.okhttp.Request.Builder().url(request.getCompiledRoute().getComiledUrl())
-				.header("Authorization", "OAuth "+statuspageAPI.getApiKey())
-				.method(request.getCompiledRoute().getRoute().getMethod().name(), request.getRequestBody()).build();
-		try {
-			Response response = okHttpClient.newCall(okRequest).execute();
-			nextRequestAt = System.currentTimeMillis()+TimeUnit.SECONDS.toMillis(1);
-			nextExecution = null;
-			switch(response.code()) {
-				case 401:
-					throw new IllegalAccessError("Could not authenticate");
-				case 404:
-					throw new NoSuchElementException("The requested resource could not be found");
-				case 422:
-					throw new IllegalAccessError("Unprocessable entity");
-				default:
-					break;
+		String method = request.getCompiledRoute().getRoute().getMethod().name();
+		String url = url(request);
+		System.out.println(request.toString(url));
+		Map<String, String> headers = new HashMap<>();
+		headers.put("Authorization", "OAuth "+statuspageAPI.getApiKey());
+		if(request.getCompiledRoute().getRoute().getMethod() == Route.Method.GET) {
+			if(request.getETag() != null) {
+				headers.put("If-None-Match", request.getETag());
+			}
+			if(request.getLastModified() != null) {
+				headers.put("If-Modified-Since", request.getLastModified());
 			}
+		}
+		try {
+			TransportResponse transportResponse = transport.execute(method, url, headers, request.getRequestBody());
+			lastExchange = System.nanoTime();
+			Response response = toResponse(new com.squareup.okhttp.Request.Builder().url(url).headers(Headers.of(headers))
+					.method(method, request.getRequestBody()).build(), transportResponse);
+			handleRateLimit(RateLimitInfo.fromHeaders(response.code(), response.headers()));
 			return response;
 		} catch (IOException e) {
-			e.printStackTrace();
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Builds the full url of a request from the {@link StatuspageAPI#getBaseUrl() base url} of the api
+	 */
+	private String url(Request request) {
+		return statuspageAPI.getBaseUrl() + request.getCompiledRoute().getCompiledPath();
+	}
+	
+	private static Response toResponse(com.squareup.okhttp.Request request, TransportResponse transportResponse) throws IOException {
+		Headers.Builder headers = new Headers.Builder();
+		transportResponse.getHeaders().forEach((name, values) -> {
+			if(name != null) {
+				values.forEach(value -> headers.add(name, value));
+			}
+		});
+		Headers builtHeaders = headers.build();
+		String contentType = builtHeaders.get("Content-Type");
+		String contentLength = builtHeaders.get("Content-Length");
+		BufferedSource source = Okio.buffer(Okio.source(transportResponse.getBody()));
+		ResponseBody body = new ResponseBody() {
+			@Override
+			public MediaType contentType() {
+				return contentType == null ? null : MediaType.parse(contentType);
+			}
+			
+			@Override
+			public long contentLength() {
+				try {
+					return contentLength == null ? -1 : Long.parseLong(contentLength);
+				} catch (NumberFormatException e) {
+					return -1;
+				}
+			}
+			
+			@Override
+			public BufferedSource source() {
+				return source;
+			}
+		};
+		return new Response.Builder().request(request).protocol(Protocol.get(transportResponse.getProtocol()))
+				.code(transportResponse.getCode()).headers(builtHeaders).body(body).build();
+	}
+	
+	/**
+	 * Opens a connection to the api, so the first real request does not have to wait for DNS, TCP and TLS.
+	 * <br>The connection is opened with an unauthenticated {@code HEAD} request to the base url, which bypasses the queue
+	 * and does not count against the rate limit. The connection is kept in the pool of the {@link HttpTransport}.
+	 * @return a future that completes once the connection has been established
+	 * @since 1.1.0
+	 * @see #setKeepAliveInterval(long, TimeUnit)
+	 */
+	public CompletableFuture<Void> warmUp() {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				ping();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, asyncExecutor);
+	}
+	
+	/**
+	 * Periodically sends a {@link #warmUp() warm up request}, so the pooled connection survives idle periods.
+	 * A keep alive is skipped, if another request has been sent within the interval.
+	 * <br>The interval has to be shorter than the keep alive time of the connection pool and the idle timeout of the server.
+	 * @param interval the interval, {@code 0} to disable keep alives
+	 * @param unit the unit of the interval
+	 * @since 1.1.0
+	 */
+	public void setKeepAliveInterval(long interval, TimeUnit unit) {
+		long intervalNanos = unit.toNanos(interval);
+		lock.lock();
+		try {
+			if(keepAlive != null) {
+				keepAlive.cancel(false);
+				keepAlive = null;
+			}
+			if(intervalNanos <= 0 || shutdown) {
+				return;
+			}
+			keepAlive = keepAliveExecutor.scheduleWithFixedDelay(() -> {
+				if(System.nanoTime() - lastExchange < intervalNanos) {
+					return;
+				}
+				try {
+					ping();
+				} catch (IOException e) {
+					// the next request opens a new connection
+				}
+			}, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+		} finally {
+			lock.unlock();
 		}
-		nextExecution = null;
-		return null;
 	}
 	
+	private void ping() throws IOException {
+		TransportResponse response = transport.execute("HEAD", statuspageAPI.getBaseUrl(), new HashMap<>(), null);
+		lastExchange = System.nanoTime();
+		// a HEAD response has no body, closing it only releases the connection
+		response.close();
+	}
+	
+	/**
+	 * Gets the {@link HttpTransport} used to send the requests
+	 * @return the transport
+	 * @since 1.1.0
+	 */
+	public HttpTransport getTransport() {
+		return transport;
+	}
+	
+	private void handleRateLimit(RateLimitInfo info) {
+		rateLimiter.onRateLimitInfo(info);
+		long pauseNanos = info.getPauseNanos();
+		if(pauseNanos > 0) {
+			lock.lock();
+			try {
+				pausedUntil = Math.max(pausedUntil, System.nanoTime()+pauseNanos);
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+	
+	private Response checkResponse(Response response) {
+		switch(response.code()) {
+			case 401:
+				throw new IllegalAccessError("Could not authenticate");
+			case 404:
+				throw new NoSuchElementException("The requested resource could not be found");
+			case 422:
+				throw new IllegalAccessError("Unprocessable entity");
+			default:
+				break;
+		}
+		return response;
+	}
+	
+	/**
+	 * Initiates an orderly shutdown. Already queued requests are still sent, but new requests are rejected
+	 * with a {@link RejectedExecutionException}.
+	 * @since 1.0.0
+	 * @see #awaitTermination(long, TimeUnit)
+	 * @see #shutdown(long, TimeUnit)
+	 */
 	public void shutdown() {
-		shutdown = true;
+		lock.lock();
+		try {
+			shutdown = true;
+			if(keepAlive != null) {
+				keepAlive.cancel(false);
+				keepAlive = null;
+			}
+			keepAliveExecutor.shutdown();
+			queueChanged.signalAll();
+			queueNotFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
 	}
 	
-	public void shutdownNow() {
+	/**
+	 * Initiates an orderly shutdown and waits for the queue to drain until the deadline.
+	 * If the queue did not drain in time, the remaining requests are cancelled like in {@link #shutdownNow()}.
+	 * @param timeout the maximum time to wait for the queue to drain
+	 * @param unit the unit of the timeout
+	 * @return the requests that were still pending and have not been sent
+	 * @throws InterruptedException if the current thread was interrupted while waiting
+	 * @since 1.1.0
+	 */
+	public List<Request> shutdown(long timeout, TimeUnit unit) throws InterruptedException {
 		shutdown();
-		queue.clear();
+		if(awaitTermination(timeout, unit)) {
+			return new ArrayList<>();
+		}
+		return shutdownNow();
+	}
+	
+	/**
+	 * Shuts down immediately. Requests that have not been sent are removed from the queue and their callers fail
+	 * with a {@link CancellationException}. Requests currently in flight are completed, but not retried.
+	 * @return the requests that were still pending and have not been sent
+	 * @since 1.0.0
+	 */
+	public List<Request> shutdownNow() {
+		lock.lock();
+		try {
+			shutdown();
+			stopped = true;
+			for(QueuedRequest queued : delayed) {
+				queue.add(queued);
+			}
+			delayed.clear();
+			pendingWrites.clear();
+			pendingReads.clear();
+			queuedByKey.clear();
+			executingByKey.clear();
+			queueNotFull.signalAll();
+			List<Request> pending = new ArrayList<>();
+			for(QueuedRequest queued : queue.drain()) {
+				pending.add(queued.request);
+				queued.completeExceptionally(new CancellationException("Requester has been shutdown before "+queued.request+" was sent"), asyncExecutor);
+			}
+			return pending;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Blocks until all requests have been completed after a shutdown, or the timeout occurs
+	 * @param timeout the maximum time to wait
+	 * @param unit the unit of the timeout
+	 * @return true, if this Requester terminated; false, if the timeout elapsed before
+	 * @throws InterruptedException if the current thread was interrupted while waiting
+	 * @since 1.1.0
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long remaining = unit.toNanos(timeout);
+		lock.lock();
+		try {
+			while(!terminated) {
+				if(remaining <= 0) {
+					return false;
+				}
+				remaining = terminationReached.awaitNanos(remaining);
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Checks if this Requester has been shut down
+	 * @return true, if {@link #shutdown()} or {@link #shutdownNow()} has been called
+	 * @since 1.1.0
+	 */
+	public boolean isShutdown() {
+		return shutdown;
+	}
+	
+	/**
+	 * Checks if all requests have been completed after a shutdown
+	 * @return true, if this Requester terminated
+	 * @since 1.1.0
+	 */
+	public boolean isTerminated() {
+		return terminated;
+	}
+	
+	private static class QueuedRequest {
+		private Request request;
+		private Priority priority;
+		private final String key;
+		private final Caller caller;
+		private final List<Caller> coalesced = new ArrayList<>();
+		private int retries;
+		private long notBefore;
+		private volatile boolean done;
+		
+		private QueuedRequest(Request request, boolean async) {
+			this.request = request;
+			this.caller = new Caller(async);
+			this.priority = request.getPriority();
+			this.key = request.getCompiledRoute().getExecutionKey();
+		}
+		
+		/**
+		 * Completes every caller of this request. If requests have been coalesced or deduplicated,
+		 * every caller gets its own copy of the body
+		 */
+		private void complete(Response response, Executor executor) throws IOException {
+			if(coalesced.isEmpty() || response.body() == null) {
+				completeCallers(executor, c -> {
+					if(!c.future.complete(response)) {
+						// the caller is gone, nobody else will close a streaming body
+						closeQuietly(response);
+					}
+				});
+				return;
+			}
+			ResponseBody body = response.body();
+			byte[] bytes;
+			try {
+				bytes = body.bytes();
+			} finally {
+				body.close();
+			}
+			completeCallers(executor, c -> c.future.complete(response.newBuilder().body(ResponseBody.create(body.contentType(), bytes)).build()));
+		}
+		
+		private void completeExceptionally(Throwable t, Executor executor) {
+			completeCallers(executor, c -> c.future.completeExceptionally(t));
+		}
+		
+		/**
+		 * Completes the callers in the order they queued the request. Callers of {@link #submit(Request)} are completed
+		 * by one task of the async executor, so the dependent stages of coalesced callers run one after another in that order
+		 * and an older caller never runs after a newer one
+		 */
+		private void completeCallers(Executor executor, Consumer<Caller> completion) {
+			done = true;
+			List<Caller> async = new ArrayList<>();
+			for(Caller c : callers()) {
+				if(c.async) {
+					async.add(c);
+				} else {
+					completion.accept(c);
+				}
+			}
+			if(async.isEmpty()) {
+				return;
+			}
+			try {
+				executor.execute(() -> async.forEach(completion));
+			} catch (RejectedExecutionException e) {
+				async.forEach(completion);
+			}
+		}
+		
+		private List<Caller> callers() {
+			List<Caller> callers = new ArrayList<>(coalesced.size()+1);
+			callers.add(caller);
+			callers.addAll(coalesced);
+			return callers;
+		}
+	}
+	
+	/**
+	 * A caller waiting for the response of a {@link QueuedRequest}
+	 */
+	private static class Caller {
+		private final CompletableFuture<Response> future = new CompletableFuture<>();
+		private final boolean async;
+		
+		private Caller(boolean async) {
+			this.async = async;
+		}
 	}
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+/**
+ * Limits the number of retries in relation to the number of requests.
+ * <br>Every new request deposits {@code retryRatio} tokens into the budget, up to {@code maxTokens}.
+ * Every retry takes one token. If the budget is empty, failed requests are not retried any more.
+ * This keeps an outage of the api from being amplified by retries.
+ *
+ * @since 1.1.0
+ * @see Requester#setRetryBudget(RetryBudget)
+ */
+public class RetryBudget {
+
+	private final double retryRatio;
+	private final double maxTokens;
+	private double tokens;
+
+	/**
+	 * Creates a retry budget, that starts full
+	 * @param retryRatio the number of retries allowed per request, e.g. {@code 0.2} for one retry every five requests
+	 * @param maxTokens the maximum number of retries that can be saved up
+	 * @since 1.1.0
+	 */
+	public RetryBudget(double retryRatio, int maxTokens) {
+		if(retryRatio < 0) {
+			throw new IllegalArgumentException("retryRatio must not be negative, but was "+retryRatio);
+		}
+		if(maxTokens < 0) {
+			throw new IllegalArgumentException("maxTokens must not be negative, but was "+maxTokens);
+		}
+		this.retryRatio = retryRatio;
+		this.maxTokens = maxTokens;
+		this.tokens = maxTokens;
+	}
+
+	/**
+	 * Records a new request
+	 * @since 1.1.0
+	 */
+	public synchronized void deposit() {
+		tokens = Math.min(maxTokens, tokens + retryRatio);
+	}
+
+	/**
+	 * Tries to take the token for one retry
+	 * @return true, if the retry is allowed
+	 * @since 1.1.0
+	 */
+	public synchronized boolean tryWithdraw() {
+		if(tokens < 1) {
+			return false;
+		}
+		tokens--;
+		return true;
+	}
+
+	/**
+	 * Gets the number of retries currently allowed
+	 * @return the remaining retries
+	 * @since 1.1.0
+	 */
+	public synchronized int getRemaining() {
+		return (int) tokens;
+	}
+}
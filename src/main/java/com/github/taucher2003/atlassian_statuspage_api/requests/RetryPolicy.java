@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how often and how fast a failed {@link Request} is retried.
+ * <br>A request is retried if the connection failed or the api answered with {@code 500}, {@code 502}, {@code 503} or {@code 504}.
+ * The delay before a retry grows exponentially from {@code baseDelay} up to {@code maxDelay}. The actual delay is picked
+ * randomly between zero and that value (full jitter), so clients recovering from the same outage do not retry in lockstep.
+ *
+ * @since 1.1.0
+ * @see Requester#setRetryPolicy(Route.Method, RetryPolicy)
+ * @see RetryBudget
+ */
+public class RetryPolicy {
+
+	/**
+	 * Never retries a request
+	 */
+	public static final RetryPolicy NONE = new RetryPolicy(0, 0, 0, TimeUnit.MILLISECONDS);
+	/**
+	 * Retries a request up to 3 times, starting with a delay of 500 milliseconds up to 30 seconds
+	 */
+	public static final RetryPolicy DEFAULT = new RetryPolicy(3, 500, 30_000, TimeUnit.MILLISECONDS);
+
+	private final int maxRetries;
+	private final long baseDelayNanos;
+	private final long maxDelayNanos;
+
+	/**
+	 * Creates a retry policy
+	 * @param maxRetries the number of retries after the first attempt
+	 * @param baseDelay the maximum delay before the first retry
+	 * @param maxDelay the upper bound for the delay before any retry
+	 * @param unit the unit of the delays
+	 * @since 1.1.0
+	 */
+	public RetryPolicy(int maxRetries, long baseDelay, long maxDelay, TimeUnit unit) {
+		if(maxRetries < 0) {
+			throw new IllegalArgumentException("maxRetries must not be negative, but was "+maxRetries);
+		}
+		if(baseDelay < 0 || maxDelay < baseDelay) {
+			throw new IllegalArgumentException("Delays must satisfy 0 <= baseDelay <= maxDelay, but were "+baseDelay+" and "+maxDelay);
+		}
+		this.maxRetries = maxRetries;
+		this.baseDelayNanos = unit.toNanos(baseDelay);
+		this.maxDelayNanos = unit.toNanos(maxDelay);
+	}
+
+	/**
+	 * Gets the number of retries after the first attempt
+	 * @return the number of retries
+	 * @since 1.1.0
+	 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * Checks if a response with the given status code should be retried
+	 * @param statusCode the status code of the response
+	 * @return true, if the status code indicates a transient failure
+	 * @since 1.1.0
+	 */
+	public boolean isRetryableStatus(int statusCode) {
+		return statusCode == 500 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+	}
+
+	/**
+	 * Computes the delay before the next retry
+	 * @param retry the number of the retry, starting at 0
+	 * @return the delay in nanoseconds
+	 * @since 1.1.0
+	 */
+	public long getDelayNanos(int retry) {
+		long ceiling = maxDelayNanos;
+		if(retry < 62 && baseDelayNanos <= maxDelayNanos >> retry) {
+			ceiling = baseDelayNanos << retry;
+		}
+		return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+
+	@Override
+	public String toString() {
+		return "RetryPolicy(max_retries="+maxRetries+", base_delay_ns="+baseDelayNanos+", max_delay_ns="+maxDelayNanos+")";
+	}
+}
@@ -18,6 +18,9 @@ package com.github.taucher2003.atlassian_statuspage_api.requests;
 
 import com.github.taucher2003.atlassian_statuspage_api.Methods;
 
+import java.util.Arrays;
+
+import static com.github.taucher2003.atlassian_statuspage_api.requests.Priority.*;
 import static com.github.taucher2003.atlassian_statuspage_api.requests.Route.Method.*;
 
 public class Route {
@@ -25,39 +28,51 @@ public class Route {
 	public static final String API_BASE_URL = "https://api.statuspage.io/v1";
 
 	public enum Method {
-		GET,
-		POST,
-		PUT,
-		PATCH,
-		DELETE
+		GET(true),
+		POST(false),
+		PUT(true),
+		PATCH(false),
+		DELETE(true);
+
+		private final boolean idempotent;
+
+		Method(boolean idempotent) {
+			this.idempotent = idempotent;
+		}
+
+		public boolean isIdempotent() {
+			return idempotent;
+		}
 	}
 
 	public static class Pages {
-		public static final Route GET_PAGE_LIST = new Route("/pages", GET);
-		public static final Route GET_PAGE = new Route("/pages/{page_id}", GET);
-		public static final Route UPDATE_PAGE = new Route("/pages/{page_id}", PATCH);
-		public static final Route UPDATE_FULL_PAGE = new Route("/pages/{page_id}", PUT);
+		public static final Route GET_PAGE_LIST = new Route("/pages", GET, NORMAL);
+		public static final Route GET_PAGE = new Route("/pages/{page_id}", GET, NORMAL);
+		public static final Route UPDATE_PAGE = new Route("/pages/{page_id}", PATCH, LOW);
+		public static final Route UPDATE_FULL_PAGE = new Route("/pages/{page_id}", PUT, LOW);
 
 	}
 	public static class Components {
-		public static final Route CREATE_COMPONENT = new Route("/pages/{page_id}/components", POST);
-		public static final Route GET_COMPONENT_LIST = new Route("/pages/{page_id}/components", GET);
-		public static final Route GET_COMPONENT = new Route("/pages/{page_id}/components/{component_id}", GET);
-		public static final Route UPDATE_COMPONENT = new Route("/pages/{page_id}/components/{component_id}", PATCH);
-		public static final Route UPDATE_FULL_COMPONENT = new Route("/pages/{page_id}/components/{component_id}", PUT);
-		public static final Route DELETE_COMPONENT = new Route("/pages/{page_id}/components/{component_id}", DELETE);
+		public static final Route CREATE_COMPONENT = new Route("/pages/{page_id}/components", POST, NORMAL);
+		public static final Route GET_COMPONENT_LIST = new Route("/pages/{page_id}/components", GET, NORMAL);
+		public static final Route GET_COMPONENT = new Route("/pages/{page_id}/components/{component_id}", GET, NORMAL);
+		public static final Route UPDATE_COMPONENT = new Route("/pages/{page_id}/components/{component_id}", PATCH, HIGH);
+		public static final Route UPDATE_FULL_COMPONENT = new Route("/pages/{page_id}/components/{component_id}", PUT, HIGH);
+		public static final Route DELETE_COMPONENT = new Route("/pages/{page_id}/components/{component_id}", DELETE, NORMAL);
 
 	}
 
 	private final String url;
 	private final Method method;
+	private final Priority priority;
 
-	private Route(String url, Method method) {
+	private Route(String url, Method method, Priority priority) {
 		if (Methods.countChar(url, '{') != Methods.countChar(url, '}')) {
 			throw new IllegalArgumentException("There are unmatching parameter braces for route " + method.name() + "~" + url);
 		}
 		this.url = url;
 		this.method = method;
+		this.priority = priority;
 	}
 
 	public String getUrl() {
@@ -68,32 +83,72 @@ public class Route {
 		return method;
 	}
 
+	public Priority getPriority() {
+		return priority;
+	}
+
 	public CompiledRoute compile(String... args) {
-		String compiledUrl = API_BASE_URL + url;
+		String compiledPath = url;
 		int param = 0;
-		while(compiledUrl.contains("{") && compiledUrl.contains("}")) {
-			int paramStart = compiledUrl.indexOf("{");
-            int paramEnd = compiledUrl.indexOf("}");
-            compiledUrl = compiledUrl.substring(0, paramStart) + args[param++] + compiledUrl.substring(paramEnd+1);
+		while(compiledPath.contains("{") && compiledPath.contains("}")) {
+			int paramStart = compiledPath.indexOf("{");
+            int paramEnd = compiledPath.indexOf("}");
+            compiledPath = compiledPath.substring(0, paramStart) + args[param++] + compiledPath.substring(paramEnd+1);
 		}
-		return new CompiledRoute(this, compiledUrl);
+		return new CompiledRoute(this, compiledPath, Arrays.copyOf(args, param));
 	}
 
 	public static class CompiledRoute {
 		private final Route route;
+		private final String compiledPath;
 		private final String comiledUrl;
+		private final String[] parameters;
 
-		private CompiledRoute(Route route, String compiledUrl) {
+		private CompiledRoute(Route route, String compiledPath, String[] parameters) {
 			this.route = route;
-			this.comiledUrl = compiledUrl;
+			this.compiledPath = compiledPath;
+			this.comiledUrl = API_BASE_URL + compiledPath;
+			this.parameters = parameters;
 		}
 
 		public Route getRoute() {
 			return route;
 		}
 		
+		/**
+		 * Gets the compiled url with the default {@link #API_BASE_URL base url}
+		 * @return the compiled url
+		 * @since 1.0.0
+		 * @deprecated ignores a base url set with {@link com.github.taucher2003.atlassian_statuspage_api.StatuspageAPI.Builder#setBaseUrl(String)},
+		 * use {@link #getCompiledPath()} with {@link com.github.taucher2003.atlassian_statuspage_api.StatuspageAPI#getBaseUrl()}
+		 */
+		@Deprecated
 		public String getComiledUrl() {
 			return comiledUrl;
 		}
+
+		/**
+		 * Gets the compiled url without the base url, e.g. {@code /pages/abc}
+		 * @return the compiled path
+		 * @since 1.1.0
+		 */
+		public String getCompiledPath() {
+			return compiledPath;
+		}
+
+		public String[] getParameters() {
+			return parameters.clone();
+		}
+
+		/**
+		 * Gets the key of the entity this route operates on, e.g. the page id or the page id and component id.
+		 * Requests with the same key are executed in order, requests with different keys may run in parallel.
+		 * @return the execution key
+		 * @since 1.1.0
+		 * @see Requester#setMaxConcurrency(int)
+		 */
+		public String getExecutionKey() {
+			return String.join("/", parameters);
+		}
 	}
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RateLimiter} using the token bucket algorithm.
+ * <br>The bucket holds up to {@code burst} tokens and is refilled with {@code permitsPerSecond} tokens per second.
+ * Every request takes one token, so up to {@code burst} requests can be sent immediately while the long-run rate
+ * never exceeds {@code permitsPerSecond}.
+ * <p>If the api reports its remaining requests and the time until the window resets, the bucket spreads the remaining
+ * requests evenly over that time and never holds more tokens than requests remain. Without these headers,
+ * the configured rate is used.
+ *
+ * @since 1.1.0
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private double configuredPermitsPerSecond;
+	private double permitsPerSecond;
+	private int burst;
+	private double tokens;
+	private long lastRefill;
+
+	/**
+	 * Creates a token bucket, that starts full.
+	 * @param permitsPerSecond the number of requests per second in the long run
+	 * @param burst the number of requests that may be sent at once
+	 * @since 1.1.0
+	 */
+	public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+		checkArguments(permitsPerSecond, burst);
+		this.configuredPermitsPerSecond = permitsPerSecond;
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = burst;
+		this.tokens = burst;
+		this.lastRefill = System.nanoTime();
+	}
+
+	@Override
+	public synchronized long tryAcquire() {
+		refill();
+		if(tokens >= 1) {
+			tokens--;
+			return 0;
+		}
+		return Math.max(1, (long) Math.ceil((1 - tokens) * NANOS_PER_SECOND / permitsPerSecond));
+	}
+
+	/**
+	 * Changes the rate and burst of this bucket. Already collected tokens are kept up to the new burst.
+	 * @param permitsPerSecond the number of requests per second in the long run
+	 * @param burst the number of requests that may be sent at once
+	 * @since 1.1.0
+	 */
+	public synchronized void setRate(double permitsPerSecond, int burst) {
+		checkArguments(permitsPerSecond, burst);
+		refill();
+		this.configuredPermitsPerSecond = permitsPerSecond;
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = burst;
+		this.tokens = Math.min(tokens, burst);
+	}
+
+	@Override
+	public synchronized void onRateLimitInfo(RateLimitInfo info) {
+		if(info.getRemaining() < 0) {
+			return;
+		}
+		refill();
+		tokens = Math.min(tokens, info.getRemaining());
+		if(info.getRemaining() > 0 && info.getResetAfterNanos() > 0) {
+			permitsPerSecond = info.getRemaining() * (double) NANOS_PER_SECOND / info.getResetAfterNanos();
+		} else if(info.getRemaining() > 0) {
+			permitsPerSecond = configuredPermitsPerSecond;
+		}
+	}
+
+	/**
+	 * Gets the number of requests per second currently used.
+	 * This differs from the configured rate, if the api reported its own limits
+	 * @return the rate
+	 * @since 1.1.0
+	 */
+	public synchronized double getPermitsPerSecond() {
+		return permitsPerSecond;
+	}
+
+	/**
+	 * Gets the number of requests that may be sent at once
+	 * @return the burst
+	 * @since 1.1.0
+	 */
+	public synchronized int getBurst() {
+		return burst;
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerSecond / NANOS_PER_SECOND);
+		lastRefill = now;
+	}
+
+	private static void checkArguments(double permitsPerSecond, int burst) {
+		if(!(permitsPerSecond > 0)) {
+			throw new IllegalArgumentException("permitsPerSecond must be positive, but was "+permitsPerSecond);
+		}
+		if(burst < 1) {
+			throw new IllegalArgumentException("burst must be at least 1, but was "+burst);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.requests;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A response received by a {@link HttpTransport}
+ *
+ * @since 1.1.0
+ */
+public class TransportResponse implements Closeable {
+
+	private final int code;
+	private final String protocol;
+	private final Map<String, List<String>> headers;
+	private final InputStream body;
+
+	/**
+	 * Creates a response
+	 * @param code the status code
+	 * @param protocol the protocol as ALPN identifier, e.g. {@code http/1.1} or {@code h2}
+	 * @param headers the headers of the response
+	 * @param body the stream of the body, which is closed together with this response
+	 * @since 1.1.0
+	 */
+	public TransportResponse(int code, String protocol, Map<String, List<String>> headers, InputStream body) {
+		this.code = code;
+		this.protocol = protocol;
+		this.headers = headers;
+		this.body = body;
+	}
+
+	public int getCode() {
+		return code;
+	}
+
+	public String getProtocol() {
+		return protocol;
+	}
+
+	public Map<String, List<String>> getHeaders() {
+		return headers;
+	}
+
+	public InputStream getBody() {
+		return body;
+	}
+
+	@Override
+	public void close() throws IOException {
+		body.close();
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 Niklas van Schrick and the contributors of this project
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+
+package com.github.taucher2003.atlassian_statuspage_api.entities;
+
+import com.github.taucher2003.atlassian_statuspage_api.StatuspageAPI;
+import com.github.taucher2003.atlassian_statuspage_api.requests.HttpTransport;
+import com.github.taucher2003.atlassian_statuspage_api.requests.JsonReader;
+import com.github.taucher2003.atlassian_statuspage_api.requests.Request;
+import com.github.taucher2003.atlassian_statuspage_api.requests.Route;
+import com.github.taucher2003.atlassian_statuspage_api.requests.TransportResponse;
+import com.squareup.okhttp.RequestBody;
+import okio.Buffer;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures the bytes allocated per update, comparing the {@link JSONObject} payloads of 1.0.0
+ * with the current entity methods, e.g. {@link Component#setStatus(Status)} and {@link Page#set}.
+ * <br>Both go through a real {@link com.github.taucher2003.atlassian_statuspage_api.requests.Requester Requester}.
+ * A stub {@link HttpTransport} writes every body into a sink, like a connection would, and clears it afterwards,
+ * which returns its segments to the segment pool of okio. So the numbers include the queue, the entity bookkeeping
+ * and the serialization, and the overhead of the requester is the same on both sides.
+ * <br>The allocations of all threads are counted, as the body is written on a worker thread.
+ * <br>This is not run as a test. After {@code mvn test-compile}, run it with
+ * <pre>{@code java -cp target/classes:target/test-classes:<okhttp, okio and json jars> com.github.taucher2003.atlassian_statuspage_api.entities.PayloadAllocationBenchmark}</pre>
+ * The allocated bytes are read from {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long[])},
+ * so a HotSpot based JVM is required.
+ */
+public class PayloadAllocationBenchmark {
+
+	private static final int WARMUP_ITERATIONS = 20_000;
+	private static final int ITERATIONS = 100_000;
+
+	private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	private static final Buffer SINK = new Buffer();
+	private static final Semaphore SENT = new Semaphore(0);
+	private static final byte[] EMPTY_RESPONSE = "{}".getBytes();
+
+	private static final HttpTransport TRANSPORT = (method, url, headers, body) -> {
+		if(body != null) {
+			synchronized(SINK) {
+				body.writeTo(SINK);
+				SINK.clear();
+			}
+		}
+		SENT.release();
+		return new TransportResponse(200, "http/1.1", Collections.emptyMap(), new ByteArrayInputStream(EMPTY_RESPONSE));
+	};
+
+	public static void main(String[] args) throws IOException {
+		StatuspageAPI api = StatuspageAPI.builder("benchmark").setTransport(TRANSPORT).setRateLimit(1_000_000_000, 1_000_000).build();
+		Component component = Component.read(api, new JsonReader(new Buffer().writeUtf8(
+				"{\"id\":\"component\",\"page_id\":\"page\",\"name\":\"API\",\"description\":\"The public api\",\"status\":\"operational\",\"group_id\":\"group\",\"showcase\":true}")));
+		Page page = Page.read(api, new JsonReader(new Buffer().writeUtf8("{\"id\":\"page\",\"name\":\"Status\"}")));
+
+		PrintStream out = System.out;
+		// the requester logs every request
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		try {
+			out.println("bytes allocated per update (all threads)");
+			compare(out, "Component.setStatus", i -> legacyComponent(api, i), i -> component.setStatus(status(i)));
+			compare(out, "Component.set, all 6 fields", i -> legacyComponent(api, i),
+					i -> component.set("The public api", status(i), "API", false, "group", true));
+			compare(out, "Page.set, all 28 fields", i -> legacyPage(api, i), i -> {
+				String color = color(i);
+				boolean flag = (i & 1) == 0;
+				page.set("Status", "status.example.com", "status", "https://example.com", "premium", color, color, color, color, color, color,
+						color, color, color, color, color, color, flag, flag, flag, flag, flag, flag, flag, flag, "status@example.com", "UTC", color);
+			});
+		} finally {
+			System.setOut(out);
+			api.getRequester().shutdown();
+		}
+	}
+
+	private static void compare(PrintStream out, String name, IntConsumer legacy, IntConsumer current) {
+		long before = measure(legacy);
+		long after = measure(current);
+		out.printf("%-30s JSONObject: %6d   current: %6d   (%.1fx less)%n", name, before, after, (double) before / Math.max(after, 1));
+	}
+
+	private static long measure(IntConsumer update) {
+		for(int i = 0; i < WARMUP_ITERATIONS; i++) {
+			send(update, i);
+		}
+		long start = allocatedBytes();
+		for(int i = 0; i < ITERATIONS; i++) {
+			send(update, i);
+		}
+		return (allocatedBytes() - start) / ITERATIONS;
+	}
+
+	/**
+	 * Runs one update and waits until its body has been written
+	 */
+	private static void send(IntConsumer update, int i) {
+		update.accept(i);
+		SENT.acquireUninterruptibly();
+	}
+
+	private static long allocatedBytes() {
+		long total = 0;
+		for(long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+			if(bytes > 0) {
+				total += bytes;
+			}
+		}
+		return total;
+	}
+
+	private static Status status(int i) {
+		return (i & 1) == 0 ? Status.MAJOR_OUTAGE : Status.OPERATIONAL;
+	}
+
+	private static String color(int i) {
+		return (i & 1) == 0 ? "#aaaaaa" : "#bbbbbb";
+	}
+
+	/**
+	 * The payload of {@code Component.set} in 1.0.0
+	 */
+	private static void legacyComponent(StatuspageAPI api, int i) {
+		Route.CompiledRoute route = Route.Components.UPDATE_FULL_COMPONENT.compile("page", "component");
+		JSONObject payload = new JSONObject().put("component", new JSONObject().put("description", "The public api").put("status", status(i).name().toLowerCase())
+				.put("name", "API").put("only_show_if_degraded", false).put("group_id", "group").put("showcase", true));
+		api.getRequester().queueAsync(new Request(route, RequestBody.create(Request.MEDIA_TYPE_JSON, payload.toString())));
+	}
+
+	/**
+	 * The payload of {@code Page.set} in 1.0.0
+	 */
+	private static void legacyPage(StatuspageAPI api, int i) {
+		String color = color(i);
+		boolean flag = (i & 1) == 0;
+		Route.CompiledRoute route = Route.Pages.UPDATE_FULL_PAGE.compile("page");
+		JSONObject payload = new JSONObject().put("page", new JSONObject().put("name", "Status").put("domain", "status.example.com").put("subdomain", "status")
+				.put("url", "https://example.com").put("branding", "premium").put("css_body_background_color", color).put("css_font_color", color)
+				.put("css_light_font_color", color).put("css_greens", color).put("css_yellows", color).put("css_oranges", color)
+				.put("css_reds", color).put("css_blues", color).put("css_border_color", color).put("css_graph_color", color)
+				.put("css_link_color", color).put("css_no_data", color).put("hidden_from_search", flag).put("viewers_must_be_team_members", flag)
+				.put("allow_page_subscribers", flag).put("allow_incident_subscribers", flag).put("allow_email_subscribers", flag)
+				.put("allow_sms_subscribers", flag).put("allow_rss_atom_feeds", flag).put("allow_webhook_subscribers", flag)
+				.put("notifications_from_email", "status@example.com").put("time_zone", "UTC").put("notifications_email_footer", color));
+		api.getRequester().queueAsync(new Request(route, RequestBody.create(Request.MEDIA_TYPE_JSON, payload.toString())));
+	}
+}